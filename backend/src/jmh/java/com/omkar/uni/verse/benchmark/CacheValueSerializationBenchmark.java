@@ -0,0 +1,78 @@
+package com.omkar.uni.verse.benchmark;
+
+import com.omkar.uni.verse.cache.CompactCacheValueSerializer;
+import com.omkar.uni.verse.support.CacheValueSamples;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of the two cache value formats: the JSON with {@code @class} metadata that
+ * {@code RedisConfig} writes by default, and {@link CompactCacheValueSerializer}. The payload is a 5000
+ * seat {@code eventSeats} entry; the encoded sizes are printed during setup. Pages of events are measured
+ * by {@link EventPageSerializationBenchmark}, since JSON cannot decode them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheValueSerializationBenchmark {
+
+    @Param({"5000"})
+    private int seatCount;
+
+    @Param({"1024"})
+    private int compressionThresholdBytes;
+
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> compact;
+    private Object value;
+    private byte[] jsonBytes;
+    private byte[] compactBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = CacheValueSamples.redisJsonSerializer();
+        compact = new CompactCacheValueSerializer(json, compressionThresholdBytes);
+        value = CacheValueSamples.eventSeats(seatCount);
+
+        jsonBytes = json.serialize(value);
+        compactBytes = compact.serialize(value);
+        System.out.printf("%neventSeats: json %d bytes, compact %d bytes (%.1f%%)%n", jsonBytes.length,
+                compactBytes.length, 100.0 * compactBytes.length / jsonBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] compactEncode() {
+        return compact.serialize(value);
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object compactDecode() {
+        return compact.deserialize(compactBytes);
+    }
+}
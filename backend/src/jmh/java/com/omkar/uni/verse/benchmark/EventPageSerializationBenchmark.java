@@ -0,0 +1,72 @@
+package com.omkar.uni.verse.benchmark;
+
+import com.omkar.uni.verse.cache.CompactCacheValueSerializer;
+import com.omkar.uni.verse.support.CacheValueSamples;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode cost of both cache value formats and decode cost of {@link CompactCacheValueSerializer} for a
+ * page of {@code events}, the payload of the event listing regions; the encoded sizes are printed during
+ * setup. There is no JSON decode: Jackson has no creator for {@code PageImpl}, so JSON {@code events}
+ * entries cannot be read back at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventPageSerializationBenchmark {
+
+    @Param({"20"})
+    private int pageSize;
+
+    @Param({"1024"})
+    private int compressionThresholdBytes;
+
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> compact;
+    private Object value;
+    private byte[] compactBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = CacheValueSamples.redisJsonSerializer();
+        compact = new CompactCacheValueSerializer(json, compressionThresholdBytes);
+        value = CacheValueSamples.eventPage(pageSize);
+
+        byte[] jsonBytes = json.serialize(value);
+        compactBytes = compact.serialize(value);
+        System.out.printf("%neventPage: json %d bytes, compact %d bytes (%.1f%%)%n", jsonBytes.length,
+                compactBytes.length, 100.0 * compactBytes.length / jsonBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] compactEncode() {
+        return compact.serialize(value);
+    }
+
+    @Benchmark
+    public Object compactDecode() {
+        return compact.deserialize(compactBytes);
+    }
+}
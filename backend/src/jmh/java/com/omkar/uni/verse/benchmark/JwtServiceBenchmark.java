@@ -0,0 +1,74 @@
+package com.omkar.uni.verse.benchmark;
+
+import com.omkar.uni.verse.domain.entities.user.User;
+import com.omkar.uni.verse.security.ParsedToken;
+import com.omkar.uni.verse.services.JwtService;
+import com.omkar.uni.verse.support.SeatBookingFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT cost: signing an access token at login and parsing/validating it in {@code JwtFilter}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        jwtService = new JwtService(
+                Base64.getEncoder().encodeToString(secret),
+                Duration.ofMinutes(15).toMillis()
+        );
+
+        user = SeatBookingFixture.newUser(1);
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String parse() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    // What one authenticated request costs now that the filters share a single parse
+    @Benchmark
+    public boolean parseOnceAndValidate() {
+        ParsedToken parsedToken = jwtService.parse(token);
+        return jwtService.isTokenValid(parsedToken, user);
+    }
+}
@@ -0,0 +1,93 @@
+package com.omkar.uni.verse.benchmark;
+
+import com.omkar.uni.verse.domain.dto.events.bookings.BatchLockResult;
+import com.omkar.uni.verse.support.SeatBookingFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code SeatBookingServiceImpl.lockMultipleSeats} under contention: every thread is a user trying to
+ * hold a block of adjacent seats. Successful holds are handed back straight away so the seat map never
+ * sells out and the success/conflict mix stays steady for the whole run. A small {@code seatCount}
+ * means most attempts collide.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatLockingBenchmark {
+
+    @Param({"64", "2048"})
+    private int seatCount;
+
+    @Param({"1", "4"})
+    private int groupSize;
+
+    private SeatBookingFixture fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = SeatBookingFixture.create(seatCount, false);
+    }
+
+    @State(Scope.Thread)
+    public static class VirtualUser {
+        private static final AtomicInteger USERS = new AtomicInteger();
+
+        private final SplittableRandom random = new SplittableRandom();
+
+        @Setup(Level.Trial)
+        public void authenticate() {
+            SeatBookingFixture.authenticate(SeatBookingFixture.newUser(USERS.incrementAndGet()));
+        }
+
+        List<Long> pickSeats(int seatCount, int groupSize) {
+            long first = 1 + random.nextInt(seatCount - groupSize + 1);
+            List<Long> seatIds = new ArrayList<>(groupSize);
+            for (int i = 0; i < groupSize; i++) {
+                seatIds.add(first + i);
+            }
+            return seatIds;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public BatchLockResult uncontended(VirtualUser user) {
+        return lockAndHandBack(user);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public BatchLockResult contended(VirtualUser user) {
+        return lockAndHandBack(user);
+    }
+
+    private BatchLockResult lockAndHandBack(VirtualUser user) {
+        List<Long> seatIds = user.pickSeats(seatCount, groupSize);
+        BatchLockResult result = fixture.seatBookingService().lockMultipleSeats(seatIds);
+        if (result.success()) {
+            fixture.store().release(seatIds);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.omkar.uni.verse.benchmark;
+
+import com.omkar.uni.verse.domain.dto.events.EventSeatResponse;
+import com.omkar.uni.verse.support.SeatBookingFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache-miss cost of {@code EventSeatManagementServiceImpl.getEventSeats}: loading the seat rows,
+ * mapping them through the generated {@code SeatMapper}, building {@code SeatMapMetaData} and
+ * refreshing the in-memory seat state. The {@code eventSeats} cache itself is not in the picture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatMapAssemblyBenchmark {
+
+    @Param({"500", "5000"})
+    private int seatCount;
+
+    private SeatBookingFixture fixture;
+    private UUID eventId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = SeatBookingFixture.create(seatCount, true);
+        eventId = fixture.event().getId();
+    }
+
+    @Benchmark
+    public EventSeatResponse getEventSeats() {
+        return fixture.eventSeatManagementService().getEventSeats(eventId);
+    }
+}
@@ -0,0 +1,389 @@
+package com.omkar.uni.verse.cache;
+
+import com.omkar.uni.verse.domain.dto.clubs.ClubDTO;
+import com.omkar.uni.verse.domain.dto.clubs.ClubSummary;
+import com.omkar.uni.verse.domain.dto.events.EventResponse;
+import com.omkar.uni.verse.domain.dto.events.EventSeatResponse;
+import com.omkar.uni.verse.domain.dto.events.SeatDTO;
+import com.omkar.uni.verse.domain.dto.events.SeatMapMetaData;
+import com.omkar.uni.verse.domain.dto.events.VenueSummary;
+import com.omkar.uni.verse.domain.entities.clubs.ClubCategory;
+import com.omkar.uni.verse.domain.entities.events.EventCategory;
+import com.omkar.uni.verse.domain.entities.events.EventRegistrationMode;
+import com.omkar.uni.verse.domain.entities.events.EventStatus;
+import com.omkar.uni.verse.domain.entities.events.EventVisibility;
+import com.omkar.uni.verse.domain.entities.events.SeatStatus;
+import com.omkar.uni.verse.domain.entities.events.SeatType;
+import com.omkar.uni.verse.domain.entities.events.VenueType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field-by-field binary layout of the cached DTOs.
+ * <p>
+ * Every value starts with a type tag and writes its fields in declaration order, without names or
+ * class metadata. The layout is the schema: adding, removing or reordering a field of a covered DTO
+ * must bump {@link #SCHEMA_VERSION}, after which entries written under the old version are treated
+ * as cache misses. {@link #supports(Object)} is checked before writing, so values of other types,
+ * subclasses included, are left to the JSON serializer.
+ */
+final class CacheValueCodec {
+
+    static final int SCHEMA_VERSION = 1;
+
+    private static final int NULL = 0;
+    private static final int EVENT_RESPONSE = 1;
+    private static final int CLUB_DTO = 2;
+    private static final int SEAT_DTO = 3;
+    private static final int VENUE_SUMMARY = 4;
+    private static final int EVENT_SEAT_RESPONSE = 5;
+    private static final int PAGE = 6;
+
+    private CacheValueCodec() {
+    }
+
+    static boolean supports(Object value) {
+        if (value == null) {
+            return true;
+        }
+        Class<?> type = value.getClass();
+        if (type == PageImpl.class) {
+            for (Object element : ((Page<?>) value).getContent()) {
+                if (element == null || element.getClass() == PageImpl.class || !supports(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return type == EventResponse.class || type == ClubDTO.class || type == SeatDTO.class
+                || type == VenueSummary.class || type == EventSeatResponse.class;
+    }
+
+    static void write(CompactOutput out, Object value) {
+        switch (value) {
+            case null -> out.writeVarInt(NULL);
+            case EventResponse event -> {
+                out.writeVarInt(EVENT_RESPONSE);
+                writeEvent(out, event);
+            }
+            case ClubDTO club -> {
+                out.writeVarInt(CLUB_DTO);
+                writeClub(out, club);
+            }
+            case SeatDTO seat -> {
+                out.writeVarInt(SEAT_DTO);
+                writeSeat(out, seat);
+            }
+            case VenueSummary venue -> {
+                out.writeVarInt(VENUE_SUMMARY);
+                writeVenue(out, venue);
+            }
+            case EventSeatResponse seats -> {
+                out.writeVarInt(EVENT_SEAT_RESPONSE);
+                writeEventSeats(out, seats);
+            }
+            case Page<?> page -> {
+                out.writeVarInt(PAGE);
+                writePage(out, page);
+            }
+            default -> throw new IllegalArgumentException("Unsupported cache value type " + value.getClass().getName());
+        }
+    }
+
+    static Object read(CompactInput in) {
+        int tag = in.readVarInt();
+        return switch (tag) {
+            case NULL -> null;
+            case EVENT_RESPONSE -> readEvent(in);
+            case CLUB_DTO -> readClub(in);
+            case SEAT_DTO -> readSeat(in);
+            case VENUE_SUMMARY -> readVenue(in);
+            case EVENT_SEAT_RESPONSE -> readEventSeats(in);
+            case PAGE -> readPage(in);
+            default -> throw new IllegalStateException("Unknown cache value tag " + tag);
+        };
+    }
+
+    private static void writeEvent(CompactOutput out, EventResponse event) {
+        out.writeUuid(event.getId());
+        out.writeString(event.getTitle());
+        out.writeString(event.getSlug());
+        out.writeString(event.getDescription());
+        out.writeDateTime(event.getStartTime());
+        out.writeDateTime(event.getEndTime());
+        writeNullableVenue(out, event.getVenue());
+        out.writeEnum(event.getType());
+        out.writeString(event.getOnlineLink());
+        out.writeNullableInt(event.getCapacity());
+        out.writeEnum(event.getRegistrationMode());
+        out.writeDateTime(event.getRegistrationDeadline());
+        out.writeNullableBoolean(event.getIsPaid());
+        out.writeDecimal(event.getBasePrice());
+        out.writeEnum(event.getVisibility());
+        out.writeEnum(event.getStatus());
+        out.writeString(event.getCancellationReason());
+        out.writeString(event.getBannerUrl());
+        out.writeString(event.getThumbnailUrl());
+        out.writeEnum(event.getCategory());
+        out.writeStringArray(event.getTags());
+        out.writeNullableInt(event.getRegistrationCount());
+        out.writeNullableInt(event.getAttendanceCount());
+        ClubSummary club = event.getClub();
+        out.writeBoolean(club != null);
+        if (club != null) {
+            out.writeUuid(club.getId());
+            out.writeString(club.getName());
+            out.writeString(club.getSlug());
+            out.writeString(club.getLogoUrl());
+        }
+        out.writeString(event.getCreatedByUser());
+        out.writeDateTime(event.getCreatedAt());
+        out.writeDateTime(event.getPublishedAt());
+        out.writeNullableBoolean(event.getIsRegistered());
+    }
+
+    private static EventResponse readEvent(CompactInput in) {
+        return EventResponse.builder()
+                .id(in.readUuid())
+                .title(in.readString())
+                .slug(in.readString())
+                .description(in.readString())
+                .startTime(in.readDateTime())
+                .endTime(in.readDateTime())
+                .venue(readNullableVenue(in))
+                .type(in.readEnum(VenueType.class))
+                .onlineLink(in.readString())
+                .capacity(in.readNullableInt())
+                .registrationMode(in.readEnum(EventRegistrationMode.class))
+                .registrationDeadline(in.readDateTime())
+                .isPaid(in.readNullableBoolean())
+                .basePrice(in.readDecimal())
+                .visibility(in.readEnum(EventVisibility.class))
+                .status(in.readEnum(EventStatus.class))
+                .cancellationReason(in.readString())
+                .bannerUrl(in.readString())
+                .thumbnailUrl(in.readString())
+                .category(in.readEnum(EventCategory.class))
+                .tags(in.readStringArray())
+                .registrationCount(in.readNullableInt())
+                .attendanceCount(in.readNullableInt())
+                .club(in.readBoolean()
+                        ? new ClubSummary(in.readUuid(), in.readString(), in.readString(), in.readString())
+                        : null)
+                .createdByUser(in.readString())
+                .createdAt(in.readDateTime())
+                .publishedAt(in.readDateTime())
+                .isRegistered(in.readNullableBoolean())
+                .build();
+    }
+
+    private static void writeClub(CompactOutput out, ClubDTO club) {
+        out.writeString(club.getName());
+        out.writeString(club.getSlug());
+        out.writeString(club.getDescription());
+        out.writeEnum(club.getClubCategory());
+        out.writeStringArray(club.getTags());
+        out.writeString(club.getLogoUrl());
+        out.writeString(club.getBannerUrl());
+        out.writeNullableInt(club.getMemberCount());
+        out.writeNullableInt(club.getFollowerCount());
+        out.writeNullableInt(club.getEventCount());
+    }
+
+    private static ClubDTO readClub(CompactInput in) {
+        ClubDTO club = new ClubDTO();
+        club.setName(in.readString());
+        club.setSlug(in.readString());
+        club.setDescription(in.readString());
+        club.setClubCategory(in.readEnum(ClubCategory.class));
+        club.setTags(in.readStringArray());
+        club.setLogoUrl(in.readString());
+        club.setBannerUrl(in.readString());
+        club.setMemberCount(in.readNullableInt());
+        club.setFollowerCount(in.readNullableInt());
+        club.setEventCount(in.readNullableInt());
+        return club;
+    }
+
+    private static void writeSeat(CompactOutput out, SeatDTO seat) {
+        out.writeNullableLong(seat.getId());
+        out.writeString(seat.getSection());
+        out.writeString(seat.getRow());
+        out.writeNullableInt(seat.getNumber());
+        out.writeEnum(seat.getType());
+        out.writeEnum(seat.getStatus());
+        out.writeDecimal(seat.getPrice());
+    }
+
+    private static SeatDTO readSeat(CompactInput in) {
+        return SeatDTO.builder()
+                .id(in.readNullableLong())
+                .section(in.readString())
+                .row(in.readString())
+                .number(in.readNullableInt())
+                .type(in.readEnum(SeatType.class))
+                .status(in.readEnum(SeatStatus.class))
+                .price(in.readDecimal())
+                .build();
+    }
+
+    private static void writeNullableVenue(CompactOutput out, VenueSummary venue) {
+        out.writeBoolean(venue != null);
+        if (venue != null) {
+            writeVenue(out, venue);
+        }
+    }
+
+    private static VenueSummary readNullableVenue(CompactInput in) {
+        return in.readBoolean() ? readVenue(in) : null;
+    }
+
+    private static void writeVenue(CompactOutput out, VenueSummary venue) {
+        out.writeNullableInt(venue.getId());
+        out.writeString(venue.getName());
+        out.writeString(venue.getLocation());
+        Map<String, String> seatLayout = venue.getSeatLayout();
+        out.writeVarInt(seatLayout == null ? 0 : seatLayout.size() + 1);
+        if (seatLayout != null) {
+            seatLayout.forEach((key, value) -> {
+                out.writeString(key);
+                out.writeString(value);
+            });
+        }
+    }
+
+    private static VenueSummary readVenue(CompactInput in) {
+        Integer id = in.readNullableInt();
+        String name = in.readString();
+        String location = in.readString();
+        int size = in.readVarInt();
+        Map<String, String> seatLayout = null;
+        if (size > 0) {
+            seatLayout = new LinkedHashMap<>();
+            for (int i = 0; i < size - 1; i++) {
+                seatLayout.put(in.readString(), in.readString());
+            }
+        }
+        return new VenueSummary(id, name, location, seatLayout);
+    }
+
+    private static void writeEventSeats(CompactOutput out, EventSeatResponse response) {
+        List<SeatDTO> seats = response.getSeats();
+        out.writeVarInt(seats == null ? 0 : seats.size() + 1);
+        if (seats != null) {
+            for (SeatDTO seat : seats) {
+                out.writeBoolean(seat != null);
+                if (seat != null) {
+                    writeSeat(out, seat);
+                }
+            }
+        }
+
+        SeatMapMetaData metadata = response.getMetadata();
+        out.writeBoolean(metadata != null);
+        if (metadata != null) {
+            out.writeNullableInt(metadata.getTotalSeats());
+            out.writeNullableInt(metadata.getAvailableSeats());
+            List<String> sections = metadata.getSections();
+            out.writeStringArray(sections != null ? sections.toArray(String[]::new) : null);
+            Map<SeatType, BigDecimal> priceByType = metadata.getPriceByType();
+            out.writeVarInt(priceByType == null ? 0 : priceByType.size() + 1);
+            if (priceByType != null) {
+                priceByType.forEach((type, price) -> {
+                    out.writeEnum(type);
+                    out.writeDecimal(price);
+                });
+            }
+        }
+        out.writeLong(response.getVersion());
+    }
+
+    private static EventSeatResponse readEventSeats(CompactInput in) {
+        int seatCount = in.readVarInt();
+        List<SeatDTO> seats = null;
+        if (seatCount > 0) {
+            seats = new ArrayList<>(seatCount - 1);
+            for (int i = 0; i < seatCount - 1; i++) {
+                seats.add(in.readBoolean() ? readSeat(in) : null);
+            }
+        }
+
+        SeatMapMetaData metadata = null;
+        if (in.readBoolean()) {
+            Integer totalSeats = in.readNullableInt();
+            Integer availableSeats = in.readNullableInt();
+            String[] sections = in.readStringArray();
+            int priceCount = in.readVarInt();
+            Map<SeatType, BigDecimal> priceByType = null;
+            if (priceCount > 0) {
+                priceByType = new EnumMap<>(SeatType.class);
+                for (int i = 0; i < priceCount - 1; i++) {
+                    priceByType.put(in.readEnum(SeatType.class), in.readDecimal());
+                }
+            }
+            metadata = new SeatMapMetaData(totalSeats, availableSeats,
+                    sections != null ? new ArrayList<>(List.of(sections)) : null, priceByType);
+        }
+        return new EventSeatResponse(seats, metadata, in.readLong());
+    }
+
+    private static void writePage(CompactOutput out, Page<?> page) {
+        List<?> content = page.getContent();
+        out.writeVarInt(content.size());
+        for (Object element : content) {
+            write(out, element);
+        }
+
+        Pageable pageable = page.getPageable();
+        out.writeBoolean(pageable.isPaged());
+        if (pageable.isPaged()) {
+            out.writeVarInt(pageable.getPageNumber());
+            out.writeVarInt(pageable.getPageSize());
+            List<Sort.Order> orders = pageable.getSort().toList();
+            out.writeVarInt(orders.size());
+            for (Sort.Order order : orders) {
+                out.writeString(order.getProperty());
+                out.writeEnum(order.getDirection());
+                out.writeBoolean(order.isIgnoreCase());
+                out.writeEnum(order.getNullHandling());
+            }
+        }
+        out.writeLong(page.getTotalElements());
+    }
+
+    private static Page<Object> readPage(CompactInput in) {
+        int size = in.readVarInt();
+        List<Object> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(read(in));
+        }
+
+        Pageable pageable = Pageable.unpaged();
+        if (in.readBoolean()) {
+            int pageNumber = in.readVarInt();
+            int pageSize = in.readVarInt();
+            int orderCount = in.readVarInt();
+            List<Sort.Order> orders = new ArrayList<>(orderCount);
+            for (int i = 0; i < orderCount; i++) {
+                String property = in.readString();
+                Sort.Direction direction = in.readEnum(Sort.Direction.class);
+                boolean ignoreCase = in.readBoolean();
+                Sort.NullHandling nullHandling = in.readEnum(Sort.NullHandling.class);
+                Sort.Order order = new Sort.Order(direction, property, nullHandling);
+                orders.add(ignoreCase ? order.ignoreCase() : order);
+            }
+            pageable = PageRequest.of(pageNumber, pageSize, Sort.by(orders));
+        }
+        return new PageImpl<>(content, pageable, in.readLong());
+    }
+}
@@ -0,0 +1,130 @@
+package com.omkar.uni.verse.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Cache value serializer that writes the known DTOs in the compact binary layout of {@link CacheValueCodec}.
+ * <p>
+ * The first byte tells the format: binary, deflated binary or deflated JSON. Any other first byte is
+ * plain JSON as the fallback serializer writes it, so entries cached before a region switched over stay
+ * readable until they expire. Values the codec does not cover go to the fallback serializer. Payloads of
+ * at least {@code compressionThresholdBytes} are deflated when that makes them smaller; seat maps with
+ * thousands of repeated prices and enum names shrink a lot, small entries are not worth the CPU.
+ * <p>
+ * An entry that cannot be decoded, for example one written under an older schema version, reads as a
+ * miss. The caller then loads the value again and overwrites the entry.
+ */
+@Slf4j
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    private static final byte BINARY = 0x01;
+    private static final byte DEFLATED_BINARY = 0x02;
+    private static final byte DEFLATED_JSON = 0x03;
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThresholdBytes;
+
+    public CompactCacheValueSerializer(RedisSerializer<Object> fallback, int compressionThresholdBytes) {
+        this.fallback = fallback;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null || !CacheValueCodec.supports(value)) {
+            byte[] json = fallback.serialize(value);
+            return json != null && json.length >= compressionThresholdBytes ? compress(DEFLATED_JSON, json, 0) : json;
+        }
+
+        CompactOutput out = new CompactOutput();
+        out.writeByte(BINARY);
+        out.writeVarInt(CacheValueCodec.SCHEMA_VERSION);
+        CacheValueCodec.write(out, value);
+        byte[] binary = out.toByteArray();
+        return binary.length >= compressionThresholdBytes ? compress(DEFLATED_BINARY, binary, 1) : binary;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return switch (bytes[0]) {
+            case BINARY -> decode(bytes, 1, bytes.length - 1);
+            case DEFLATED_BINARY -> {
+                byte[] binary = inflate(bytes);
+                yield binary != null ? decode(binary, 0, binary.length) : null;
+            }
+            case DEFLATED_JSON -> {
+                byte[] json = inflate(bytes);
+                yield json != null ? fallback.deserialize(json) : null;
+            }
+            default -> fallback.deserialize(bytes);
+        };
+    }
+
+    private Object decode(byte[] bytes, int offset, int length) {
+        try {
+            CompactInput in = new CompactInput(bytes, offset, length);
+            int version = in.readVarInt();
+            if (version != CacheValueCodec.SCHEMA_VERSION) {
+                log.debug("Ignoring cache entry written with schema version {}", version);
+                return null;
+            }
+            return CacheValueCodec.read(in);
+        } catch (RuntimeException e) {
+            log.warn("Could not decode cached value, treating it as a miss: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // Keeps the uncompressed form when deflating does not pay off
+    private static byte[] compress(byte marker, byte[] payload, int offset) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(payload, offset, payload.length - offset);
+            deflater.finish();
+            byte[] buffer = new byte[payload.length];
+            buffer[0] = marker;
+            int size = 1;
+            while (!deflater.finished() && size < buffer.length) {
+                size += deflater.deflate(buffer, size, buffer.length - size);
+            }
+            return deflater.finished() ? Arrays.copyOf(buffer, size) : payload;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // Returns null for a corrupt or truncated entry, which reads as a miss
+    private static byte[] inflate(byte[] bytes) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, 1, bytes.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int size = inflater.inflate(buffer);
+                if (size == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    log.warn("Truncated compressed cache value, treating it as a miss");
+                    return null;
+                }
+                out.write(buffer, 0, size);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            log.warn("Corrupt compressed cache value, treating it as a miss: {}", e.getMessage());
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+}
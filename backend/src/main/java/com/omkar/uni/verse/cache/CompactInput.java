@@ -0,0 +1,155 @@
+package com.omkar.uni.verse.cache;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads what {@link CompactOutput} wrote. Malformed input fails with a runtime exception.
+ */
+final class CompactInput {
+
+    private final byte[] buffer;
+    private int position;
+    private final int limit;
+    private final List<String> strings = new ArrayList<>();
+
+    CompactInput(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    int readByte() {
+        if (position >= limit) {
+            throw new IllegalStateException("Unexpected end of cache value");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in cache value");
+    }
+
+    int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    long readLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    Integer readNullableInt() {
+        long value = readVarLong();
+        if (value == 0) {
+            return null;
+        }
+        int zigzag = (int) (value - 1);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    Long readNullableLong() {
+        return readBoolean() ? readLong() : null;
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    Boolean readNullableBoolean() {
+        int value = readByte();
+        return value == 0 ? null : value == 2;
+    }
+
+    String readString() {
+        int code = readVarInt();
+        if (code == 0) {
+            return null;
+        }
+        if (code >= 2) {
+            return strings.get(code - 2);
+        }
+        int length = readVarInt();
+        checkAvailable(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        strings.add(value);
+        return value;
+    }
+
+    <E extends Enum<E>> E readEnum(Class<E> type) {
+        String name = readString();
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    UUID readUuid() {
+        return readBoolean() ? new UUID(readFixedLong(), readFixedLong()) : null;
+    }
+
+    LocalDateTime readDateTime() {
+        long value = readVarLong();
+        if (value == 0) {
+            return null;
+        }
+        long zigzag = value - 1;
+        long seconds = (zigzag >>> 1) ^ -(zigzag & 1);
+        return LocalDateTime.ofEpochSecond(seconds, readVarInt(), ZoneOffset.UTC);
+    }
+
+    BigDecimal readDecimal() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        checkAvailable(length - 1);
+        BigInteger unscaled = new BigInteger(Arrays.copyOfRange(buffer, position, position + length - 1));
+        position += length - 1;
+        return new BigDecimal(unscaled, (int) readLong());
+    }
+
+    String[] readStringArray() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        String[] values = new String[length - 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString();
+        }
+        return values;
+    }
+
+    boolean hasRemaining() {
+        return position < limit;
+    }
+
+    private long readFixedLong() {
+        checkAvailable(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private void checkAvailable(int length) {
+        if (length < 0 || position + length > limit) {
+            throw new IllegalStateException("Unexpected end of cache value");
+        }
+    }
+}
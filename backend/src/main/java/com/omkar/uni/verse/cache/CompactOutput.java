@@ -0,0 +1,147 @@
+package com.omkar.uni.verse.cache;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Growable byte buffer with the primitive encodings of the compact cache format.
+ * <p>
+ * Integers are LEB128 varints (zigzag for signed values); nullable values reserve 0 for null. Strings
+ * go through a per-payload dictionary: the first occurrence is written out and later ones are a back
+ * reference, which collapses the section names, rows and enum constants repeated across a seat map.
+ */
+final class CompactOutput {
+
+    private byte[] buffer = new byte[256];
+    private int size;
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    void writeVarInt(int value) {
+        writeVarLong(Integer.toUnsignedLong(value));
+    }
+
+    void writeLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeNullableInt(Integer value) {
+        writeVarLong(value == null ? 0 : Integer.toUnsignedLong((value << 1) ^ (value >> 31)) + 1);
+    }
+
+    void writeNullableLong(Long value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeLong(value);
+        }
+    }
+
+    void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    void writeNullableBoolean(Boolean value) {
+        writeByte(value == null ? 0 : value ? 2 : 1);
+    }
+
+    void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarInt(index + 2);
+            return;
+        }
+        strings.put(value, strings.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(1);
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    void writeEnum(Enum<?> value) {
+        writeString(value != null ? value.name() : null);
+    }
+
+    void writeUuid(UUID value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeFixedLong(value.getMostSignificantBits());
+            writeFixedLong(value.getLeastSignificantBits());
+        }
+    }
+
+    void writeDateTime(LocalDateTime value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        writeVarLong(((seconds << 1) ^ (seconds >> 63)) + 1);
+        writeVarInt(value.getNano());
+    }
+
+    void writeDecimal(BigDecimal value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        writeVarInt(unscaled.length + 1);
+        writeBytes(unscaled);
+        writeLong(value.scale());
+    }
+
+    void writeStringArray(String[] values) {
+        writeVarInt(values == null ? 0 : values.length + 1);
+        if (values != null) {
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[size++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+        }
+    }
+}
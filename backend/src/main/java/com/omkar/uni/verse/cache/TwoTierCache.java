@@ -0,0 +1,165 @@
+package com.omkar.uni.verse.cache;
+
+import com.omkar.uni.verse.utils.LocalTtlCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * One cache region with a node-local level in front of the shared Redis level.
+ * <p>
+ * Reads try the local level first and fill it from Redis on a miss. Writes and evictions go to Redis,
+ * update this node's local level and are announced through {@code invalidationPublisher}, so the other
+ * nodes drop their copy. Storing a value that was just loaded after a miss changes nothing the other
+ * nodes could hold, so {@code @Cacheable} operations are given the {@link #fillView()}, whose puts are not
+ * announced. The local level hands out the cached instance itself instead of a fresh deserialized copy,
+ * so cached values must be treated as read-only.
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache remote;
+    private final LocalTtlCache<String, Object> local;
+    // Receives the key to drop on other nodes, or null to clear the region there
+    private final Consumer<String> invalidationPublisher;
+    private final boolean announcePuts;
+    private final TwoTierCache fillView;
+
+    public TwoTierCache(Cache remote, LocalTtlCache<String, Object> local, Consumer<String> invalidationPublisher) {
+        this(remote, local, invalidationPublisher, true);
+    }
+
+    private TwoTierCache(Cache remote, LocalTtlCache<String, Object> local, Consumer<String> invalidationPublisher,
+                         boolean announcePuts) {
+        this.remote = remote;
+        this.local = local;
+        this.invalidationPublisher = invalidationPublisher;
+        this.announcePuts = announcePuts;
+        this.fillView = announcePuts ? new TwoTierCache(remote, local, invalidationPublisher, false) : this;
+    }
+
+    /**
+     * The same region over the same levels, except that {@link #put} does not tell the other nodes
+     */
+    public TwoTierCache fillView() {
+        return fillView;
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object value = local.get(localKey);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = local.get(localKey);
+        if (value != null) {
+            return (T) value;
+        }
+
+        T loaded = remote.get(key, valueLoader);
+        local.put(localKey, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        local.put(localKey, value);
+        if (announcePuts) {
+            invalidationPublisher.accept(localKey);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        evictEverywhere(key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictEverywhere(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        evictEverywhere(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearEverywhere();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        clearEverywhere();
+        return invalidated;
+    }
+
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.clear();
+    }
+
+    private void evictEverywhere(Object key) {
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(localKey);
+    }
+
+    private void clearEverywhere() {
+        local.clear();
+        invalidationPublisher.accept(null);
+    }
+
+    // Keys travel between nodes as text, so the local level is keyed the same way
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
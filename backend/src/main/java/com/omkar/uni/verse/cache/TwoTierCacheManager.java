@@ -0,0 +1,147 @@
+package com.omkar.uni.verse.cache;
+
+import com.omkar.uni.verse.utils.LocalTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager that puts a bounded in-process level in front of every region of the Redis cache manager.
+ * <p>
+ * Each region gets a {@link LocalTtlCache} sized by {@code cache.local.ttl-seconds} and
+ * {@code cache.local.max-size}, overridable per region under {@code cache.local.regions.<name>.*}; a TTL
+ * of 0 leaves the region Redis-only. Evictions and writes made through {@code @CacheEvict}/{@code @CachePut}
+ * are published on {@link #INVALIDATION_CHANNEL} and drop the entry from the other nodes' local level;
+ * {@code @Cacheable} fills go through {@link #getFillCache} via {@link TwoTierCacheResolver} and are not.
+ * A node that misses a message serves its copy until the local TTL runs out, so the TTL is the bound on
+ * staleness. Regions are wrapped transaction-aware, so both levels change only after commit.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener, InitializingBean {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    private static final String PROPERTY_PREFIX = "cache.local.";
+
+    private final CacheManager remote;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Environment environment;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    private final Map<String, TwoTierCache> localTiers = new ConcurrentHashMap<>();
+    private final Map<String, Cache> fillCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remote,
+                               StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               Environment environment) {
+        this.remote = remote;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        // The Redis manager is not a bean of its own; its per-region configurations load here
+        if (remote instanceof InitializingBean initializingBean) {
+            initializingBean.afterPropertiesSet();
+        }
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    /**
+     * The region as seen by a cache fill: puts into its local level are not announced to other nodes.
+     * Regions without a local level are returned unchanged.
+     */
+    public Cache getFillCache(String name) {
+        Cache cache = getCache(name);
+        TwoTierCache tiers = localTiers.get(name);
+        if (tiers == null) {
+            return cache;
+        }
+        return fillCaches.computeIfAbsent(name, region -> new TransactionAwareCacheDecorator(tiers.fillView()));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    // Payload format: nodeId|region|key to evict a key, nodeId|region to clear the region
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 2 || parts[0].equals(nodeId)) {
+            return;
+        }
+
+        TwoTierCache cache = localTiers.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 3) {
+            cache.evictLocal(parts[2]);
+        } else {
+            cache.clearLocal();
+        }
+    }
+
+    private Cache createCache(String name) {
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+
+        long ttlSeconds = regionProperty(name, "ttl-seconds", Long.class, 30L);
+        int maxSize = regionProperty(name, "max-size", Integer.class, 1000);
+        if (!environment.getProperty(PROPERTY_PREFIX + "enabled", Boolean.class, true) || ttlSeconds <= 0 || maxSize <= 0) {
+            return new TransactionAwareCacheDecorator(remoteCache);
+        }
+
+        TwoTierCache cache = new TwoTierCache(
+                remoteCache,
+                new LocalTtlCache<>(Duration.ofSeconds(ttlSeconds), maxSize),
+                key -> publishInvalidation(name, key)
+        );
+        localTiers.put(name, cache);
+        return new TransactionAwareCacheDecorator(cache);
+    }
+
+    private <T> T regionProperty(String region, String property, Class<T> type, T defaultValue) {
+        T regionValue = environment.getProperty(PROPERTY_PREFIX + "regions." + region + "." + property, type);
+        return regionValue != null
+                ? regionValue
+                : environment.getProperty(PROPERTY_PREFIX + property, type, defaultValue);
+    }
+
+    private void publishInvalidation(String region, String key) {
+        String payload = key != null ? nodeId + "|" + region + "|" + key : nodeId + "|" + region;
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            // Other nodes keep their copy until the local TTL runs out
+            log.warn("Could not broadcast cache invalidation for region {}: {}", region, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.omkar.uni.verse.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheableOperation;
+import org.springframework.cache.interceptor.SimpleCacheResolver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Resolves the regions of {@code @Cacheable} operations to their fill view.
+ * <p>
+ * Spring stores a value loaded after a {@code @Cacheable} miss with the same {@link Cache#put} that
+ * {@code @CachePut} uses, so the cache itself cannot tell a fill from an update. The operation type is
+ * only known here: fills get {@link TwoTierCacheManager#getFillCache}, every other operation the
+ * announcing region.
+ */
+public class TwoTierCacheResolver extends SimpleCacheResolver {
+
+    private final TwoTierCacheManager cacheManager;
+
+    public TwoTierCacheResolver(TwoTierCacheManager cacheManager) {
+        super(cacheManager);
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        if (!(context.getOperation() instanceof CacheableOperation)) {
+            return super.resolveCaches(context);
+        }
+
+        Collection<String> cacheNames = getCacheNames(context);
+        List<Cache> caches = new ArrayList<>(cacheNames.size());
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getFillCache(cacheName);
+            if (cache == null) {
+                throw new IllegalArgumentException("Cannot find cache named '" + cacheName + "' for " + context.getOperation());
+            }
+            caches.add(cache);
+        }
+        return caches;
+    }
+}
@@ -0,0 +1,29 @@
+package com.omkar.uni.verse.config;
+
+import com.omkar.uni.verse.cache.TwoTierCacheManager;
+import com.omkar.uni.verse.cache.TwoTierCacheResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.cache.interceptor.SimpleCacheResolver;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CachingConfig implements CachingConfigurer {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public CachingConfig(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // @Cacheable fills must not broadcast invalidations; only the resolver knows which operation is running
+    @Override
+    public CacheResolver cacheResolver() {
+        CacheManager manager = cacheManager.getObject();
+        return manager instanceof TwoTierCacheManager twoTierCacheManager
+                ? new TwoTierCacheResolver(twoTierCacheManager)
+                : new SimpleCacheResolver(manager);
+    }
+}
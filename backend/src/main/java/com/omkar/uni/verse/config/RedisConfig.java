@@ -1,6 +1,7 @@
 package com.omkar.uni.verse.config;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -8,9 +9,12 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -27,6 +31,9 @@ import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import org.springframework.cache.annotation.EnableCaching;
 
+import com.omkar.uni.verse.cache.CompactCacheValueSerializer;
+import com.omkar.uni.verse.cache.TwoTierCacheManager;
+
 @Configuration
 @EnableCaching
 @Profile("!heroku") // Don't use this config for Heroku; use RedisConfigHeroku instead
@@ -37,6 +44,10 @@ public class RedisConfig {
     private String redisHost;
     @Value("${spring.data.redis.password}")
     private String redisPassword;
+    @Value("${cache.serializer.binary-regions:}")
+    private String[] binaryRegions;
+    @Value("${cache.serializer.compression-threshold-bytes:1024}")
+    private int compressionThresholdBytes;
 
     // Creates connection to Redis server
     @Bean
@@ -73,7 +84,10 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     Environment environment) {
         // GenericJackson2JsonRedisSerializer automatically embeds @class type metadata
         // on writes and reads it back on deserialization — no manual ObjectMapper wiring needed.
         com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
@@ -99,7 +113,7 @@ public class RedisConfig {
                 .disableCachingNullValues()
                 .prefixCacheNameWith("universe/cache/");
 
-        Map<String, RedisCacheConfiguration> cacheConfigurations = Map.of(
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>(Map.of(
                 "users", defaultConfig
                         .entryTtl(Duration.ofMinutes(2))
                         .prefixCacheNameWith("universe/users/"),
@@ -114,13 +128,26 @@ public class RedisConfig {
                         .prefixCacheNameWith("universe/events/"),
                 "event", defaultConfig
                         .entryTtl(Duration.ofMinutes(30))
-                        .prefixCacheNameWith("universe/event/")
-        );
+                        .prefixCacheNameWith("universe/event/"),
+                "searchSuggestions", defaultConfig
+                        .entryTtl(Duration.ofMinutes(10))
+                        .prefixCacheNameWith("universe/search-suggestions/")
+        ));
 
-        return RedisCacheManager.builder(connectionFactory)
+        // Regions holding large DTO payloads switch to the compact binary format; JSON stays the fallback
+        RedisSerializationContext.SerializationPair<Object> compactValues = RedisSerializationContext.SerializationPair
+                .fromSerializer(new CompactCacheValueSerializer(jsonSerializer, compressionThresholdBytes));
+        for (String region : binaryRegions) {
+            cacheConfigurations.put(region, cacheConfigurations.getOrDefault(region, defaultConfig)
+                    .serializeValuesWith(compactValues));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware()
                 .build();
+
+        // Local level in front of Redis; it applies the transaction awareness to both levels
+        return new TwoTierCacheManager(redisCacheManager, stringRedisTemplate, redisMessageListenerContainer, environment);
     }
 }
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
 
+import java.util.List;
+
 @Configuration
 public class RedisLockConfig {
 
@@ -47,4 +49,144 @@ public class RedisLockConfig {
         redisScript.setResultType(Long.class);
         return redisScript;
     }
+
+    /**
+     * Lua script for all-or-nothing acquisition of several locks in one round-trip
+     * Sets every key with the same value and TTL only if none of them is currently held
+     * Returns 1 if all keys were set, 0 if any key was already locked (nothing is written)
+     * On Redis Cluster all keys must hash to one slot, so callers put them under a shared {hash tag}
+     */
+    @Bean
+    public RedisScript<Long> lockAllScript() {
+        String script =
+                "for i = 1, #KEYS do " +
+                        "    if redis.call('exists', KEYS[i]) == 1 then " +
+                        "        return 0 " +
+                        "    end " +
+                        "end " +
+                        "for i = 1, #KEYS do " +
+                        "    redis.call('set', KEYS[i], ARGV[1], 'PX', ARGV[2]) " +
+                        "end " +
+                        "return 1";
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua script for safe release of several locks in one round-trip
+     * Only deletes the keys whose value matches (same ownership rule as unlockScript)
+     * Returns the number of keys deleted
+     */
+    @Bean
+    public RedisScript<Long> unlockAllScript() {
+        String script =
+                "local released = 0 " +
+                        "for i = 1, #KEYS do " +
+                        "    if redis.call('get', KEYS[i]) == ARGV[1] then " +
+                        "        released = released + redis.call('del', KEYS[i]) " +
+                        "    end " +
+                        "end " +
+                        "return released";
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua script for recording seat status changes in the per-event seat map change log
+     * Each change carries the event_seats row version that produced it; a change not newer than the one
+     * already stored for its seat arrived out of commit order and is dropped
+     * Bumps the event version once, stamps every applied seat with it and stores "seatVersion:STATUS"
+     * A fresh log is seeded at ARGV[2] (epoch millis) and records that seed as its floor, so versions stay
+     * monotonic across log expiry and clients older than the floor can be told to resync
+     * The applied changes are published as "eventId|version|seatId=STATUS:seatVersion,..." on ARGV[3]
+     * KEYS: version, floor, changes sorted set, status hash (one {eventId} hash tag, so one cluster slot)
+     * ARGV: ttl seconds, seed, channel, eventId, then seatId/status/seatVersion triples
+     * Returns the new version, or the current one when every change was stale
+     */
+    @Bean
+    public RedisScript<Long> recordSeatChangesScript() {
+        String script =
+                "if redis.call('exists', KEYS[1]) == 0 then " +
+                        "    redis.call('set', KEYS[1], ARGV[2]) " +
+                        "    redis.call('set', KEYS[2], ARGV[2]) " +
+                        "    redis.call('del', KEYS[3], KEYS[4]) " +
+                        "end " +
+                        "local applied = {} " +
+                        "for i = 5, #ARGV, 3 do " +
+                        "    local current = redis.call('hget', KEYS[4], ARGV[i]) " +
+                        "    local stored = current and tonumber(string.match(current, '^(%d+):')) " +
+                        "    if not stored or stored < tonumber(ARGV[i + 2]) then " +
+                        "        applied[#applied + 1] = i " +
+                        "    end " +
+                        "end " +
+                        "if #applied == 0 then " +
+                        "    return tonumber(redis.call('get', KEYS[1])) " +
+                        "end " +
+                        "local version = redis.call('incr', KEYS[1]) " +
+                        "local encoded = {} " +
+                        "for _, i in ipairs(applied) do " +
+                        "    redis.call('zadd', KEYS[3], version, ARGV[i]) " +
+                        "    redis.call('hset', KEYS[4], ARGV[i], ARGV[i + 2] .. ':' .. ARGV[i + 1]) " +
+                        "    encoded[#encoded + 1] = ARGV[i] .. '=' .. ARGV[i + 1] .. ':' .. ARGV[i + 2] " +
+                        "end " +
+                        "for i = 1, #KEYS do " +
+                        "    redis.call('expire', KEYS[i], ARGV[1]) " +
+                        "end " +
+                        "redis.call('publish', ARGV[3], ARGV[4] .. '|' .. version .. '|' .. table.concat(encoded, ',')) " +
+                        "return version";
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua script for rotating the head of a refresh token family
+     * The value is the 64-character SHA-256 hex of the current head followed by "|userId|email"
+     * Replaces the head with ARGV[2] and resets the TTL to ARGV[3] millis only if the current head is ARGV[1],
+     * so exactly one of two concurrent refreshes with the same token wins
+     * Returns the previous value on success, nil if the family is unknown or ARGV[1] is not its head
+     */
+    @Bean
+    public RedisScript<String> rotateRefreshTokenScript() {
+        String script =
+                "local value = redis.call('get', KEYS[1]) " +
+                        "if value and string.sub(value, 1, 64) == ARGV[1] then " +
+                        "    redis.call('set', KEYS[1], ARGV[2] .. string.sub(value, 65), 'PX', ARGV[3]) " +
+                        "    return value " +
+                        "end " +
+                        "return false";
+
+        DefaultRedisScript<String> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(String.class);
+        return redisScript;
+    }
+
+    /**
+     * Lua script for claiming due seat holds from the shared expiry sorted set
+     * Removes and returns up to ARGV[2] members whose score (expiry epoch millis) is <= ARGV[1],
+     * so each due hold is handed to exactly one node
+     */
+    @Bean
+    public RedisScript<List> claimDueHoldsScript() {
+        String script =
+                "local due = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+                        "if #due > 0 then " +
+                        "    redis.call('zrem', KEYS[1], unpack(due)) " +
+                        "end " +
+                        "return due";
+
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
 }
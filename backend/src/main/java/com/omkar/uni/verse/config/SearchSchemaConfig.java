@@ -0,0 +1,111 @@
+package com.omkar.uni.verse.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Creates the full-text and trigram search structures that Hibernate's schema update cannot express.
+ * <p>
+ * {@code events} and {@code clubs} get a stored {@code search_vector} column generated from their
+ * name/title (weight A), tags (B) and description (C), indexed with GIN for {@code @@} queries, plus a
+ * trigram GIN index on the name/title for typo-tolerant and prefix matching. Every statement is
+ * idempotent, so this runs on each startup right after the schema update.
+ * <p>
+ * Each statement runs on its own and every one is required: if one cannot be created, startup fails
+ * instead of serving a half-built schema. That includes the {@code pg_trgm} extension, because the search
+ * queries in {@code EventRepository} and {@code ClubRepository} use its {@code <%} operator and
+ * {@code word_similarity()}; a database that does not let the application install it needs it installed
+ * by an administrator first. Indexes are built {@code CONCURRENTLY} so a first build on a populated table
+ * does not block writes; adding a generated column still rewrites the table once.
+ */
+@Configuration
+@Slf4j
+@ConditionalOnProperty(name = "search.schema.initialize", havingValue = "true", matchIfMissing = true)
+public class SearchSchemaConfig {
+
+    private static final String TRIGRAM_EXTENSION = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+
+    private static final List<String> SEARCH_VECTOR_COLUMNS = List.of(
+            // array_to_string is only STABLE, which generated columns do not accept
+            """
+            CREATE OR REPLACE FUNCTION search_tags_text(tags text[]) RETURNS text
+            LANGUAGE sql IMMUTABLE PARALLEL SAFE
+            AS $$ SELECT coalesce(array_to_string(tags, ' '), '') $$
+            """,
+            """
+            ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector
+            GENERATED ALWAYS AS (
+                setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+                setweight(to_tsvector('english', search_tags_text(tags)), 'B') ||
+                setweight(to_tsvector('english', coalesce(description, '')), 'C')
+            ) STORED
+            """,
+            """
+            ALTER TABLE clubs ADD COLUMN IF NOT EXISTS search_vector tsvector
+            GENERATED ALWAYS AS (
+                setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+                setweight(to_tsvector('english', search_tags_text(tags)), 'B') ||
+                setweight(to_tsvector('english', coalesce(description, '')), 'C')
+            ) STORED
+            """
+    );
+
+    private static final List<SearchIndex> SEARCH_VECTOR_INDEXES = List.of(
+            new SearchIndex("idx_events_search_vector", "events USING GIN (search_vector)"),
+            new SearchIndex("idx_clubs_search_vector", "clubs USING GIN (search_vector)")
+    );
+
+    private static final List<SearchIndex> TRIGRAM_INDEXES = List.of(
+            new SearchIndex("idx_events_title_trgm", "events USING GIN (title gin_trgm_ops)"),
+            new SearchIndex("idx_clubs_name_trgm", "clubs USING GIN (name gin_trgm_ops)")
+    );
+
+    private record SearchIndex(String name, String definition) {
+    }
+
+    @Bean
+    public ApplicationRunner initializeSearchSchema(JdbcTemplate jdbcTemplate) {
+        return args -> {
+            SEARCH_VECTOR_COLUMNS.forEach(statement -> executeRequired(jdbcTemplate, statement));
+            SEARCH_VECTOR_INDEXES.forEach(index -> executeRequired(jdbcTemplate, index));
+
+            executeRequired(jdbcTemplate, TRIGRAM_EXTENSION);
+            TRIGRAM_INDEXES.forEach(index -> executeRequired(jdbcTemplate, index));
+            log.info("Search schema is up to date");
+        };
+    }
+
+    private void executeRequired(JdbcTemplate jdbcTemplate, String statement) {
+        try {
+            jdbcTemplate.execute(statement);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not initialize the search schema: " + e.getMessage(), e);
+        }
+    }
+
+    private void executeRequired(JdbcTemplate jdbcTemplate, SearchIndex index) {
+        try {
+            createIndex(jdbcTemplate, index);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not create search index " + index.name() + ": " + e.getMessage(), e);
+        }
+    }
+
+    // A concurrent build that failed leaves an INVALID index behind, which IF NOT EXISTS would keep forever
+    private void createIndex(JdbcTemplate jdbcTemplate, SearchIndex index) {
+        Boolean invalid = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_index WHERE indexrelid = to_regclass(?) AND NOT indisvalid)",
+                Boolean.class, index.name());
+        if (Boolean.TRUE.equals(invalid)) {
+            log.warn("Rebuilding invalid search index {}", index.name());
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.name());
+        }
+        jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index.name() + " ON " + index.definition());
+    }
+}
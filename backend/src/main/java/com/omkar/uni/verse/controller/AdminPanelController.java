@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.controller;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.MessageResponse;
 import com.omkar.uni.verse.domain.dto.PageResponse;
 import com.omkar.uni.verse.domain.dto.admin.OrganizerRejectionReason;
@@ -51,6 +52,16 @@ public class AdminPanelController {
         return ResponseEntity.ok().body(pageResponse);
     }
 
+    @GetMapping("/users/scroll")
+    public ResponseEntity<CursorResponse<UserBasicDTO>> getUsersByCursor(
+            @RequestParam(required = false) AccountStatus accountStatus,
+            @RequestParam(required = false) RoleName roleName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize
+    ) {
+        return ResponseEntity.ok().body(adminPanelService.getUsersByCursor(accountStatus, roleName, cursor, pageSize));
+    }
+
     @PutMapping("/users/{id}/promote-faculty")
     public ResponseEntity<UserProfileResponse> promoteToFaculty(@PathVariable UUID id) {
         return ResponseEntity.ok().body(adminPanelService.promoteToFaculty(id));
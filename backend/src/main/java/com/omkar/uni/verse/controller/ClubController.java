@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.controller;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.PageResponse;
 import com.omkar.uni.verse.domain.dto.clubs.ClubDTO;
 import com.omkar.uni.verse.domain.dto.clubs.ClubRegistrationRequest;
@@ -48,6 +49,17 @@ public class ClubController {
         ));
     }
 
+    /**
+     * Cursor-paginated listing of active clubs, newest first; pass the returned {@code nextCursor} as {@code cursor}
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorResponse<ClubDTO>> getAllClubsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int pageSize
+    ) {
+        return ResponseEntity.ok(clubService.getAllClubsByCursor(cursor, pageSize));
+    }
+
     @GetMapping("/{slug}")
     public ResponseEntity<ClubDTO> getClubBySlug(@PathVariable String slug) {
         return ResponseEntity.ok().body(clubService.getClubBySlug(slug));
@@ -1,8 +1,12 @@
 package com.omkar.uni.verse.controller;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.PageResponse;
 import com.omkar.uni.verse.domain.dto.events.EventResponse;
+import com.omkar.uni.verse.domain.dto.events.EventSearchCriteria;
 import com.omkar.uni.verse.domain.entities.events.EventCategory;
+import com.omkar.uni.verse.domain.entities.events.EventVisibility;
+import com.omkar.uni.verse.domain.entities.events.VenueType;
 import com.omkar.uni.verse.services.EventService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -10,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -18,15 +23,26 @@ import java.util.UUID;
 public class EventController {
     private final EventService eventService;
 
+    /**
+     * Event discovery. Only the filters that are given restrict the result; {@code tags} matches events
+     * carrying any of them.
+     */
     @GetMapping
     public ResponseEntity<PageResponse<EventResponse>> getAllEvents(
             @RequestParam(required = false) UUID clubId,
             @RequestParam(required = false) EventCategory category,
             @RequestParam LocalDateTime dateTime,
+            @RequestParam(required = false) LocalDateTime until,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) Boolean paid,
+            @RequestParam(required = false) EventVisibility visibility,
+            @RequestParam(required = false) VenueType venueType,
             @RequestParam(required = false, defaultValue = "0") int offset,
             @RequestParam(required = false, defaultValue = "10") int pageSize
     ) {
-        Page<EventResponse> page = eventService.getAllEvents(clubId, category, dateTime, offset, pageSize);
+        EventSearchCriteria criteria = new EventSearchCriteria(
+                clubId, category, dateTime, until, tags, paid, visibility, venueType);
+        Page<EventResponse> page = eventService.getAllEvents(criteria, offset, pageSize);
 
         return ResponseEntity.ok().body(
                 new PageResponse<>(
@@ -36,6 +52,28 @@ public class EventController {
         );
     }
 
+    /**
+     * Cursor-paginated discovery for infinite scroll, with the same filters as {@link #getAllEvents};
+     * pass the returned {@code nextCursor} as {@code cursor}
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorResponse<EventResponse>> getAllEventsByCursor(
+            @RequestParam(required = false) UUID clubId,
+            @RequestParam(required = false) EventCategory category,
+            @RequestParam LocalDateTime dateTime,
+            @RequestParam(required = false) LocalDateTime until,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) Boolean paid,
+            @RequestParam(required = false) EventVisibility visibility,
+            @RequestParam(required = false) VenueType venueType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "10") int pageSize
+    ) {
+        EventSearchCriteria criteria = new EventSearchCriteria(
+                clubId, category, dateTime, until, tags, paid, visibility, venueType);
+        return ResponseEntity.ok().body(eventService.getAllEventsByCursor(criteria, cursor, pageSize));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EventResponse> getEventById(@PathVariable UUID id) {
         return ResponseEntity.ok().body(eventService.getEventById(id));
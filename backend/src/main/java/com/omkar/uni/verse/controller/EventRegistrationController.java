@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.controller;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.MessageResponse;
 import com.omkar.uni.verse.domain.dto.PageResponse;
 import com.omkar.uni.verse.domain.dto.events.CancelEventRegistrationRequest;
@@ -49,6 +50,19 @@ public class EventRegistrationController {
         ));
     }
 
+    @GetMapping("/registrations/scroll")
+    public ResponseEntity<CursorResponse<EventRegistrationSummary>> getClubEventRegistrationsByCursor(
+            @PathVariable String slug,
+            @PathVariable UUID id,
+            @RequestParam(required = false) EventRegistrationStatus registrationStatus,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok().body(eventRegistrationService.getClubEventRegistrationsByCursor(
+                slug, id, registrationStatus, cursor, size
+        ));
+    }
+
     @PutMapping("/registrations/{userId}/approve")
     public ResponseEntity<EventRegistrationResponse> approveEventRegistration(
             @PathVariable String slug, @PathVariable UUID id, @PathVariable UUID userId
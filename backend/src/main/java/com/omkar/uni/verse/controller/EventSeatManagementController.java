@@ -4,15 +4,19 @@ import com.omkar.uni.verse.domain.dto.PageResponse;
 import com.omkar.uni.verse.domain.dto.events.BookingSeatDTO;
 import com.omkar.uni.verse.domain.dto.events.CreateVenueRequest;
 import com.omkar.uni.verse.domain.dto.events.EventSeatResponse;
+import com.omkar.uni.verse.domain.dto.events.SeatMapDelta;
 import com.omkar.uni.verse.domain.dto.events.VenueSummary;
 import com.omkar.uni.verse.domain.dto.events.bookings.LockResult;
 import com.omkar.uni.verse.services.EventSeatManagementService;
 import com.omkar.uni.verse.services.SeatBookingService;
+import com.omkar.uni.verse.services.SeatStreamService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -23,6 +27,7 @@ public class EventSeatManagementController {
 
     private final EventSeatManagementService eventSeatManagementService;
     private final SeatBookingService seatBookingService;
+    private final SeatStreamService seatStreamService;
 
     @GetMapping("/venues")
     public PageResponse<VenueSummary> getAllVenues(
@@ -48,6 +53,16 @@ public class EventSeatManagementController {
         return ResponseEntity.ok().body(eventSeatManagementService.getEventSeats(id));
     }
 
+    @GetMapping(value = "/events/{id}/seats", params = "sinceVersion")
+    public ResponseEntity<SeatMapDelta> getEventSeatChanges(@PathVariable UUID id, @RequestParam long sinceVersion) {
+        return ResponseEntity.ok().body(eventSeatManagementService.getEventSeatChanges(id, sinceVersion));
+    }
+
+    @GetMapping(value = "/events/{id}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEventSeats(@PathVariable UUID id) {
+        return seatStreamService.subscribe(id);
+    }
+
     @PostMapping("/booking/{id}/lock")
     public ResponseEntity<LockResult> lockSeat(@PathVariable Long id) {
         return new ResponseEntity<>(
@@ -259,6 +259,21 @@ public class GlobalExceptionHandler {
                 .body(error);
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponseDto> handleServiceBusy(ServiceBusyException e, HttpServletRequest request) {
+        log.warn("Request shed: {}", e.getMessage());
+        ErrorResponseDto error = new ErrorResponseDto(
+                e.getMessage(),
+                "BUSY-001",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(error);
+    }
+
     @ExceptionHandler(TokenException.class)
     public ResponseEntity<ErrorResponseDto> handleTokenException(TokenException e, HttpServletRequest request) {
         log.warn("Token error: {}", e.getMessage());
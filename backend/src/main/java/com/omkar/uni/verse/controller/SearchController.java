@@ -0,0 +1,44 @@
+package com.omkar.uni.verse.controller;
+
+import com.omkar.uni.verse.domain.dto.clubs.ClubDTO;
+import com.omkar.uni.verse.domain.dto.events.EventResponse;
+import com.omkar.uni.verse.domain.dto.search.SearchSuggestions;
+import com.omkar.uni.verse.services.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+    private final SearchService searchService;
+
+    @GetMapping("/events")
+    public ResponseEntity<List<EventResponse>> searchEvents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int pageSize
+    ) {
+        return ResponseEntity.ok().body(searchService.searchEvents(q, offset, pageSize));
+    }
+
+    @GetMapping("/clubs")
+    public ResponseEntity<List<ClubDTO>> searchClubs(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "10") int pageSize
+    ) {
+        return ResponseEntity.ok().body(searchService.searchClubs(q, offset, pageSize));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<SearchSuggestions> autocomplete(@RequestParam String prefix) {
+        return ResponseEntity.ok().body(searchService.autocomplete(prefix));
+    }
+}
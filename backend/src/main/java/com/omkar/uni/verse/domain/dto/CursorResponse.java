@@ -0,0 +1,14 @@
+package com.omkar.uni.verse.domain.dto;
+
+import java.util.List;
+
+/**
+ * One window of a keyset-paginated listing. Pass {@code nextCursor} back as {@code cursor} to continue;
+ * it is null once {@code hasNext} is false.
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
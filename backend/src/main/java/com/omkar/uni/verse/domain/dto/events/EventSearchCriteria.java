@@ -0,0 +1,45 @@
+package com.omkar.uni.verse.domain.dto.events;
+
+import com.omkar.uni.verse.domain.entities.events.EventCategory;
+import com.omkar.uni.verse.domain.entities.events.EventVisibility;
+import com.omkar.uni.verse.domain.entities.events.VenueType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filters for event discovery. Every field is optional except {@code from}; a null field does not
+ * restrict the search.
+ *
+ * @param from  only events still running at or after this time
+ * @param until only events starting before this time
+ * @param tags  events carrying at least one of these tags
+ * @param paid  true for paid events, false for free ones
+ */
+public record EventSearchCriteria(
+        UUID clubId,
+        EventCategory category,
+        LocalDateTime from,
+        LocalDateTime until,
+        List<String> tags,
+        Boolean paid,
+        EventVisibility visibility,
+        VenueType venueType
+) {
+
+    /**
+     * Cache key for these filters; {@code from} is truncated to the hour so requests within the same
+     * hour share a cached page
+     */
+    public String cacheKey() {
+        return "club=" + clubId
+                + ",cat=" + category
+                + ",time=" + (from != null ? from.withMinute(0).withSecond(0).withNano(0) : null)
+                + ",until=" + until
+                + ",tags=" + (tags != null ? tags.stream().sorted().toList() : null)
+                + ",paid=" + paid
+                + ",visibility=" + visibility
+                + ",venue=" + venueType;
+    }
+}
@@ -1,11 +1,17 @@
 package com.omkar.uni.verse.domain.dto.events;
 
 import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+@Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class EventSeatResponse {
     private List<SeatDTO> seats;
     private SeatMapMetaData metadata;
+    // Seat map change log version this snapshot was taken at; poll deltas with sinceVersion from here
+    private long version;
 }
@@ -2,8 +2,10 @@ package com.omkar.uni.verse.domain.dto.events;
 
 import com.omkar.uni.verse.domain.entities.events.SeatStatus;
 import com.omkar.uni.verse.domain.entities.events.SeatType;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
@@ -11,6 +13,8 @@ import java.math.BigDecimal;
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class SeatDTO {
     private Long id;
     private String section;
@@ -0,0 +1,21 @@
+package com.omkar.uni.verse.domain.dto.events;
+
+import java.util.List;
+
+/**
+ * Seats whose status changed after {@code sinceVersion}. When {@code fullResyncRequired} is true the
+ * change log no longer covers the requested version and the client must refetch the full seat map.
+ */
+public record SeatMapDelta(
+        long version,
+        boolean fullResyncRequired,
+        List<SeatStatusChange> changes
+) {
+    public static SeatMapDelta of(long version, List<SeatStatusChange> changes) {
+        return new SeatMapDelta(version, false, changes);
+    }
+
+    public static SeatMapDelta resync(long version) {
+        return new SeatMapDelta(version, true, List.of());
+    }
+}
@@ -2,11 +2,15 @@ package com.omkar.uni.verse.domain.dto.events;
 
 import com.omkar.uni.verse.domain.entities.events.SeatType;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
+@Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class SeatMapMetaData {
     private Integer totalSeats;
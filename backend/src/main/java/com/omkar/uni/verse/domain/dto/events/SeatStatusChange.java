@@ -0,0 +1,14 @@
+package com.omkar.uni.verse.domain.dto.events;
+
+import com.omkar.uni.verse.domain.entities.events.SeatStatus;
+
+/**
+ * New status of one seat. {@code seatVersion} is the event_seats row version that produced it; a change
+ * with a lower {@code seatVersion} than one already applied for the seat is stale and must be ignored.
+ */
+public record SeatStatusChange(
+        Long seatId,
+        SeatStatus status,
+        long seatVersion
+) {
+}
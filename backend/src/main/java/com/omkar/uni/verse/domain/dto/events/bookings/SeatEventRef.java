@@ -0,0 +1,14 @@
+package com.omkar.uni.verse.domain.dto.events.bookings;
+
+import java.util.UUID;
+
+/**
+ * Seat id with its event id and row version, as returned by the bulk seat status updates in EventSeatsRepository
+ */
+public interface SeatEventRef {
+    Long getSeatId();
+
+    UUID getEventId();
+
+    Integer getVersion();
+}
@@ -0,0 +1,18 @@
+package com.omkar.uni.verse.domain.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSuggestions {
+    private List<String> events = new ArrayList<>();
+    private List<String> clubs = new ArrayList<>();
+}
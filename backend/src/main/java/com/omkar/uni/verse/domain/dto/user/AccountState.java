@@ -0,0 +1,18 @@
+package com.omkar.uni.verse.domain.dto.user;
+
+import com.omkar.uni.verse.domain.entities.user.AccountStatus;
+import com.omkar.uni.verse.domain.entities.user.RoleName;
+
+/**
+ * The parts of a user account that decide whether a stateless JWT may still be honoured
+ */
+public record AccountState(AccountStatus accountStatus, RoleName role, int tokenVersion) {
+
+    public boolean isActive() {
+        return accountStatus == AccountStatus.ACTIVE;
+    }
+
+    public boolean accepts(int tokenVersion) {
+        return isActive() && this.tokenVersion == tokenVersion;
+    }
+}
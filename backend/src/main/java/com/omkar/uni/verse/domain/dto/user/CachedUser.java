@@ -0,0 +1,98 @@
+package com.omkar.uni.verse.domain.dto.user;
+
+import com.omkar.uni.verse.domain.entities.user.AccountStatus;
+import com.omkar.uni.verse.domain.entities.user.RoleName;
+import com.omkar.uni.verse.domain.entities.user.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Column snapshot of a {@link User} as stored in the {@code users} cache region.
+ * <p>
+ * The password hash and associations are deliberately left out: cached users only back request
+ * authentication, never login, and the rebuilt entity is only used as a detached reference.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedUser {
+    private UUID id;
+    private String firstName;
+    private String lastName;
+    private String fullName;
+    private String email;
+    private String universityId;
+    private String universityEmailDomain;
+    private Boolean emailVerified;
+    private LocalDateTime emailVerifiedAt;
+    private AccountStatus accountStatus;
+    private String suspensionReason;
+    private LocalDateTime suspendedAt;
+    private String phone;
+    private String bio;
+    private String avatarUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime lastLoginAt;
+    private RoleName role;
+    private Integer tokenVersion;
+
+    public static CachedUser from(User user) {
+        return CachedUser.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .universityId(user.getUniversityId())
+                .universityEmailDomain(user.getUniversityEmailDomain())
+                .emailVerified(user.getEmailVerified())
+                .emailVerifiedAt(user.getEmailVerifiedAt())
+                .accountStatus(user.getAccountStatus())
+                .suspensionReason(user.getSuspensionReason())
+                .suspendedAt(user.getSuspendedAt())
+                .phone(user.getPhone())
+                .bio(user.getBio())
+                .avatarUrl(user.getAvatarUrl())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .lastLoginAt(user.getLastLoginAt())
+                .role(user.getRole())
+                .tokenVersion(user.getTokenVersion())
+                .build();
+    }
+
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .fullName(fullName)
+                .email(email)
+                .universityId(universityId)
+                .universityEmailDomain(universityEmailDomain)
+                .emailVerified(emailVerified)
+                .emailVerifiedAt(emailVerifiedAt)
+                .accountStatus(accountStatus)
+                .suspensionReason(suspensionReason)
+                .suspendedAt(suspendedAt)
+                .phone(phone)
+                .bio(bio)
+                .avatarUrl(avatarUrl)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .lastLoginAt(lastLoginAt)
+                .role(role)
+                // Entries cached before token versioning carry no version
+                .tokenVersion(tokenVersion != null ? tokenVersion : 0)
+                .build();
+    }
+}
@@ -25,7 +25,8 @@ import java.util.*;
                 @Index(name = "idx_clubs_status", columnList = "club_status"),
                 @Index(name = "idx_clubs_category", columnList = "club_category"),
                 @Index(name = "idx_clubs_created_by", columnList = "created_by_user_id"),
-                @Index(name = "idx_clubs_created_at", columnList = "created_at")
+                @Index(name = "idx_clubs_created_at", columnList = "created_at"),
+                @Index(name = "idx_clubs_status_created_at_id", columnList = "club_status, created_at, id")
         }
 )
 @Getter
@@ -24,6 +24,9 @@ import java.util.UUID;
                 @Index(name = "idx_events_slug", columnList = "slug"),
                 @Index(name = "idx_events_status", columnList = "status"),
                 @Index(name = "idx_events_start_time", columnList = "start_time"),
+                @Index(name = "idx_events_start_time_id", columnList = "start_time, id"),
+                @Index(name = "idx_events_status_end_time_start_time", columnList = "status, end_time, start_time"),
+                @Index(name = "idx_events_club_id_status_start_time", columnList = "club_id, status, start_time"),
                 @Index(name = "idx_events_category", columnList = "category"),
                 @Index(name = "idx_events_created_at", columnList = "created_at"),
                 @Index(name = "idx_events_visibility", columnList = "visibility")
@@ -17,7 +17,8 @@ import java.util.UUID;
                 @Index(name = "idx_event_registrations_event_id", columnList = "event_id"),
                 @Index(name = "idx_event_registrations_user_id", columnList = "user_id"),
                 @Index(name = "idx_event_registrations_status", columnList = "status"),
-                @Index(name = "idx_event_registrations_registered_at", columnList = "registered_at")
+                @Index(name = "idx_event_registrations_registered_at", columnList = "registered_at"),
+                @Index(name = "idx_event_registrations_event_status_registered_at_id", columnList = "event_id, status, registered_at, id")
         }
 )
 @Getter
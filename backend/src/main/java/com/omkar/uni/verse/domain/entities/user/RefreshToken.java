@@ -13,7 +13,8 @@ import java.util.UUID;
         name = "refresh_tokens", indexes = {
         @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
         @Index(name = "idx_refresh_tokens_token", columnList = "token"),
-        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id")
 })
 @Getter
 @Setter
@@ -30,15 +31,24 @@ public class RefreshToken {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(name = "token", length = 500, unique = true, nullable = false)
-    private String token;
+    // SHA-256 hex of the opaque token handed to the client; the token itself is never stored
+    @Column(name = "token", length = 64, unique = true, nullable = false)
+    private String tokenHash;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
+    // Every token rotated from the same login shares the family id
+    @Column(name = "family_id", columnDefinition = "uuid")
+    private UUID familyId;
+
     @Column(name = "revoked_at")
     private LocalDateTime revokedAt;
 
+    // Set when the token was exchanged for its successor; presenting it again means it was copied
+    @Column(name = "consumed_at")
+    private LocalDateTime consumedAt;
+
 
     @Column(name = "ip_address", length = 50)
     private String ipAddress;
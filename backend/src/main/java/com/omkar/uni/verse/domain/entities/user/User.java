@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Formula;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -20,7 +21,8 @@ import java.util.UUID;
         @Index(name = "idx_users_email", columnList = "email"),
         @Index(name = "idx_users_full_name", columnList = "full_name"),
         @Index(name = "idx_users_university_id", columnList = "university_id"),
-        @Index(name = "idx_users_account_status", columnList = "account_status")
+        @Index(name = "idx_users_account_status", columnList = "account_status"),
+        @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
 })
 @Getter
 @Setter
@@ -119,6 +121,16 @@ public class User implements UserDetails {
     @Column(name = "role", length = 20, nullable = false)
     private RoleName role = RoleName.USER;
 
+    // Embedded in every JWT; bumping it revokes all tokens issued to the user
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
+    public void revokeTokens() {
+        tokenVersion = tokenVersion + 1;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return role.getInheritedAuthorities();
@@ -0,0 +1,18 @@
+package com.omkar.uni.verse.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request is shed instead of queued
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -3,13 +3,18 @@ package com.omkar.uni.verse.repository;
 import com.omkar.uni.verse.domain.entities.clubs.Club;
 import com.omkar.uni.verse.domain.entities.clubs.ClubStatus;
 import com.omkar.uni.verse.domain.entities.user.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +26,8 @@ public interface ClubRepository extends JpaRepository<Club, UUID> {
 
     Page<Club> findAllByClubStatus(ClubStatus clubStatus, Pageable pageable);
 
+    Window<Club> findAllByClubStatus(ClubStatus clubStatus, ScrollPosition position, Sort sort, Limit limit);
+
     Optional<Club> findBySlugAndClubStatus(String slug, ClubStatus clubStatus);
 
     Optional<Club> findBySlug(String slug);
@@ -44,4 +51,30 @@ public interface ClubRepository extends JpaRepository<Club, UUID> {
     Optional<Club> findBySlugWithLeadersAndMembers(@Param("slug") String slug);
 
    long countClubByClubStatus(ClubStatus clubStatus);
+
+    /**
+     * Active clubs matching {@code query} on the full-text vector or by trigram similarity to the name,
+     * best match first
+     */
+    @Query(value = """
+            SELECT c.* FROM clubs c, websearch_to_tsquery('english', :query) q
+            WHERE c.club_status = 'ACTIVE'
+              AND (c.search_vector @@ q OR :query <% c.name)
+            ORDER BY ts_rank_cd(c.search_vector, q) DESC, word_similarity(:query, c.name) DESC, c.member_count DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Club> search(@Param("query") String query, @Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * Names of active clubs with a word starting with {@code prefix} (an escaped LIKE pattern), names
+     * starting with it first, then the largest clubs
+     */
+    @Query(value = """
+            SELECT c.name FROM clubs c
+            WHERE c.club_status = 'ACTIVE'
+              AND (c.name ILIKE (:prefix || '%') OR c.name ILIKE ('% ' || :prefix || '%'))
+            ORDER BY (c.name ILIKE (:prefix || '%')) DESC, c.member_count DESC, c.name
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<String> findNameSuggestions(@Param("prefix") String prefix, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -5,8 +5,13 @@ import com.omkar.uni.verse.domain.entities.events.Event;
 import com.omkar.uni.verse.domain.entities.events.EventRegistration;
 import com.omkar.uni.verse.domain.entities.events.EventRegistrationStatus;
 import com.omkar.uni.verse.domain.entities.user.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -22,6 +27,9 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
 
     Page<EventRegistration> findByEventAndStatus(Event event, EventRegistrationStatus status, Pageable pageable);
 
+    @EntityGraph(attributePaths = "user")
+    Window<EventRegistration> findByEventAndStatus(Event event, EventRegistrationStatus status, ScrollPosition position, Sort sort, Limit limit);
+
     Page<EventRegistration> findEventRegistrationByUser(User user, Pageable pageable);
 
     Page<EventRegistration> findEventRegistrationByUserAndStatus(User user, EventRegistrationStatus status, Pageable pageable);
@@ -8,15 +8,18 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import com.omkar.uni.verse.domain.entities.clubs.Club;
 import com.omkar.uni.verse.domain.entities.events.Event;
-import com.omkar.uni.verse.domain.entities.events.EventCategory;
 import com.omkar.uni.verse.domain.entities.events.EventStatus;
 
-public interface EventRepository extends JpaRepository<Event, UUID> {
-    Page<Event> findAllByClubAndCategoryAndEndTimeIsAfterAndCancelledAtIsNullAndStatus(Club club, EventCategory category, LocalDateTime time, EventStatus status, Pageable pageable);
-
+/**
+ * Discovery searches go through {@link JpaSpecificationExecutor} with
+ * {@link com.omkar.uni.verse.repository.specifications.EventSpecifications}.
+ */
+public interface EventRepository extends JpaRepository<Event, UUID>, JpaSpecificationExecutor<Event> {
     Page<Event> findAllByStatus(EventStatus eventStatus, Pageable pageable);
 
     Optional<Event> findByIdAndStatus(UUID id, EventStatus status);
@@ -24,4 +27,36 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
     List<Event> findByStatusAndEndTimeBefore(EventStatus status, LocalDateTime endTime);
 
     long countEventByStatus(EventStatus status);
+
+    /**
+     * Published upcoming or running events matching {@code query}, best match first. Matches on the
+     * full-text vector (web search syntax) or, for misspelled words, on trigram similarity to the title.
+     */
+    @Query(value = """
+            SELECT e.* FROM events e, websearch_to_tsquery('english', :query) q
+            WHERE e.status = 'PUBLISHED' AND e.cancelled_at IS NULL AND e.end_time > :now
+              AND (e.search_vector @@ q OR :query <% e.title)
+            ORDER BY ts_rank_cd(e.search_vector, q) DESC, word_similarity(:query, e.title) DESC, e.start_time
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Event> search(@Param("query") String query,
+                       @Param("now") LocalDateTime now,
+                       @Param("limit") int limit,
+                       @Param("offset") int offset);
+
+    /**
+     * Distinct titles of published upcoming events with a word starting with {@code prefix} (an escaped
+     * LIKE pattern), titles starting with it first, then the most registered
+     */
+    @Query(value = """
+            SELECT e.title FROM events e
+            WHERE e.status = 'PUBLISHED' AND e.cancelled_at IS NULL AND e.end_time > :now
+              AND (e.title ILIKE (:prefix || '%') OR e.title ILIKE ('% ' || :prefix || '%'))
+            GROUP BY e.title
+            ORDER BY bool_or(e.title ILIKE (:prefix || '%')) DESC, max(e.registration_count) DESC, e.title
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<String> findTitleSuggestions(@Param("prefix") String prefix,
+                                      @Param("now") LocalDateTime now,
+                                      @Param("limit") int limit);
 }
\ No newline at end of file
@@ -1,24 +1,131 @@
 package com.omkar.uni.verse.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-import com.omkar.uni.verse.domain.entities.events.SeatStatus;
+import com.omkar.uni.verse.domain.dto.events.bookings.SeatEventRef;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import com.omkar.uni.verse.domain.entities.events.Event;
 import com.omkar.uni.verse.domain.entities.events.EventSeats;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 
 public interface EventSeatsRepository extends JpaRepository<EventSeats, Long> {
     @Query("SELECT es from EventSeats es left join fetch es.seat where es.event = :event")
     List<EventSeats> findByEventWithSeats(@Param("event") Event event);
 
+    @Query("SELECT es.event.id FROM EventSeats es WHERE es.id = :seatId")
+    Optional<UUID> findEventIdById(@Param("seatId") Long seatId);
+
+    @Query("SELECT es.id AS seatId, es.event.id AS eventId, es.version AS version FROM EventSeats es WHERE es.id IN :seatIds")
+    List<SeatEventRef> findEventRefsByIds(@Param("seatIds") Collection<Long> seatIds);
+
     @Query("SELECT COUNT(es) FROM EventSeats es WHERE es.event.id = :eventId AND es.status = 'BOOKED'")
     Long countBookedSeatsByEventId(@Param("eventId") UUID eventId);
 
-    List<EventSeats> findByStatusAndLockExpiresAtIsBefore(SeatStatus status, LocalDateTime lockExpiresAtBefore);
-}
\ No newline at end of file
+    /**
+     * Releases up to {@code batchSize} expired seat holds in one statement and returns what was released.
+     * Rows currently locked by a live booking are skipped and picked up by a later run; the version bump
+     * makes any stale in-flight entity update fail its optimistic lock check.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE event_seats
+            SET status = 'AVAILABLE', locked_by_user_id = NULL, lock_expires_at = NULL,
+                version = version + 1, updated_at = :now
+            WHERE id IN (
+                SELECT id FROM event_seats
+                WHERE status = 'LOCKED' AND lock_expires_at < :now
+                ORDER BY id
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id AS seatId, event_id AS eventId, version AS version
+            """, nativeQuery = true)
+    List<SeatEventRef> releaseExpiredLocks(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    /**
+     * Releases the given seats if they are still LOCKED with an expired hold. Seats that were confirmed,
+     * released or re-locked since their hold was registered are left untouched. Rows are locked in id
+     * order, like {@link #lockIfAvailable}, so the two cannot deadlock on overlapping seats.
+     */
+    @Transactional
+    @Query(value = """
+            WITH due AS (
+                SELECT id FROM event_seats
+                WHERE id IN (:seatIds) AND status = 'LOCKED' AND lock_expires_at <= :now
+                ORDER BY id
+                FOR UPDATE
+            )
+            UPDATE event_seats es
+            SET status = 'AVAILABLE', locked_by_user_id = NULL, lock_expires_at = NULL,
+                version = es.version + 1, updated_at = :now
+            FROM due
+            WHERE es.id = due.id
+            RETURNING es.id AS seatId, es.event_id AS eventId, es.version AS version
+            """, nativeQuery = true)
+    List<SeatEventRef> releaseExpiredLocksByIds(@Param("seatIds") List<Long> seatIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Compare-and-set AVAILABLE -> LOCKED. Returns only the seats that were actually locked, so callers
+     * compare the row count against the requested ids instead of reading and checking status first.
+     * <p>
+     * A plain {@code UPDATE ... WHERE id IN} locks rows in scan order, so two overlapping groups can
+     * each hold a seat the other one waits for. The CTE takes the row locks in id order first; the
+     * status is re-checked after any wait, so seats taken meanwhile simply drop out of the result.
+     */
+    @Transactional
+    @Query(value = """
+            WITH candidates AS (
+                SELECT id FROM event_seats
+                WHERE id IN (:seatIds) AND status = 'AVAILABLE'
+                ORDER BY id
+                FOR UPDATE
+            )
+            UPDATE event_seats es
+            SET status = 'LOCKED', locked_by_user_id = :userId, lock_expires_at = :lockExpiresAt,
+                version = es.version + 1, updated_at = :now
+            FROM candidates
+            WHERE es.id = candidates.id
+            RETURNING es.id AS seatId, es.event_id AS eventId, es.version AS version
+            """, nativeQuery = true)
+    List<SeatEventRef> lockIfAvailable(@Param("seatIds") List<Long> seatIds,
+                                       @Param("userId") UUID userId,
+                                       @Param("lockExpiresAt") LocalDateTime lockExpiresAt,
+                                       @Param("now") LocalDateTime now);
+
+    /**
+     * Compare-and-set LOCKED -> BOOKED for the lock holder while the hold is still valid
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE event_seats
+            SET status = 'BOOKED', lock_expires_at = NULL, version = version + 1, updated_at = :now
+            WHERE id = :seatId AND status = 'LOCKED' AND locked_by_user_id = :userId AND lock_expires_at > :now
+            RETURNING id AS seatId, event_id AS eventId, version AS version
+            """, nativeQuery = true)
+    List<SeatEventRef> bookIfLockedBy(@Param("seatId") Long seatId,
+                                      @Param("userId") UUID userId,
+                                      @Param("now") LocalDateTime now);
+
+    /**
+     * Compare-and-set LOCKED -> AVAILABLE for the lock holder
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE event_seats
+            SET status = 'AVAILABLE', locked_by_user_id = NULL, lock_expires_at = NULL,
+                version = version + 1, updated_at = :now
+            WHERE id = :seatId AND status = 'LOCKED' AND locked_by_user_id = :userId
+            RETURNING id AS seatId, event_id AS eventId, version AS version
+            """, nativeQuery = true)
+    List<SeatEventRef> releaseIfLockedBy(@Param("seatId") Long seatId,
+                                         @Param("userId") UUID userId,
+                                         @Param("now") LocalDateTime now);
+}
@@ -2,11 +2,63 @@ package com.omkar.uni.verse.repository;
 
 import com.omkar.uni.verse.domain.entities.user.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
-    Optional<RefreshToken> findByTokenAndRevokedAtIsNull(String token);
 
-}
\ No newline at end of file
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    Optional<RefreshToken> findByTokenHashAndRevokedAtIsNull(String tokenHash);
+
+    @Query("SELECT DISTINCT r.familyId FROM RefreshToken r WHERE r.user.id = :userId AND r.revokedAt IS NULL AND r.familyId IS NOT NULL")
+    List<UUID> findActiveFamilyIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Marks the token as exchanged for its successor. Conditional, so only one of two concurrent
+     * rotations of the same token wins, and an expired token is never exchanged.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.consumedAt = :now, r.revokedAt = :now WHERE r.tokenHash = :tokenHash AND r.revokedAt IS NULL AND r.expiresAt > :now")
+    int consumeIfActive(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    /**
+     * Inserts the successor of a consumed token, copying its user, family and client details without
+     * loading the row.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO refresh_tokens (id, user_id, token, family_id, expires_at, ip_address, user_agent, created_at)
+            SELECT :id, user_id, :tokenHash, family_id, :expiresAt, ip_address, user_agent, :now
+            FROM refresh_tokens
+            WHERE token = :previousTokenHash
+            """, nativeQuery = true)
+    int insertSuccessor(@Param("id") UUID id,
+                        @Param("previousTokenHash") String previousTokenHash,
+                        @Param("tokenHash") String tokenHash,
+                        @Param("expiresAt") LocalDateTime expiresAt,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revokeIfActive(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") UUID familyId, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.user.id = :userId AND r.revokedAt IS NULL")
+    int revokeAllByUserId(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now OR r.revokedAt < :revokedBefore")
+    int deleteExpiredOrRevokedBefore(@Param("now") LocalDateTime now, @Param("revokedBefore") LocalDateTime revokedBefore);
+}
@@ -1,11 +1,18 @@
 package com.omkar.uni.verse.repository;
 
+import com.omkar.uni.verse.domain.dto.user.AccountState;
 import com.omkar.uni.verse.domain.entities.user.AccountStatus;
 import com.omkar.uni.verse.domain.entities.user.RoleName;
 import com.omkar.uni.verse.domain.entities.user.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -21,5 +28,16 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     
     Page<User> findAllByRole(RoleName role, Pageable pageable);
 
+    Window<User> findAllByAccountStatusAndRole(AccountStatus accountStatus, RoleName role, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<User> findAllByAccountStatus(AccountStatus accountStatus, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<User> findAllByRole(RoleName role, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<User> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
     long countUsersByAccountStatus(AccountStatus accountStatus);
+
+    @Query("SELECT new com.omkar.uni.verse.domain.dto.user.AccountState(u.accountStatus, u.role, u.tokenVersion) FROM User u WHERE u.id = :id")
+    Optional<AccountState> findAccountStateById(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.omkar.uni.verse.repository.specifications;
+
+import com.omkar.uni.verse.domain.dto.events.EventSearchCriteria;
+import com.omkar.uni.verse.domain.entities.events.Event;
+import com.omkar.uni.verse.domain.entities.events.EventCategory;
+import com.omkar.uni.verse.domain.entities.events.EventStatus;
+import com.omkar.uni.verse.domain.entities.events.EventVisibility;
+import com.omkar.uni.verse.domain.entities.events.VenueType;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Composable predicates for event discovery.
+ * <p>
+ * Each factory returns null for a missing filter, which {@link Specification#allOf} skips, so a search
+ * only carries the predicates that were asked for. Unlike a derived query, a null club or category then
+ * means "any" instead of {@code = NULL}. The filters line up with the composite indexes on
+ * {@code events}: {@code (status, end_time, start_time)} for the catalogue and
+ * {@code (club_id, status, start_time)} for a single club.
+ */
+public final class EventSpecifications {
+
+    // Private constructor to prevent instantiation
+    private EventSpecifications() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Published, not cancelled events matching every filter set in {@code criteria}
+     */
+    public static Specification<Event> search(EventSearchCriteria criteria) {
+        return Specification.allOf(
+                hasStatus(EventStatus.PUBLISHED),
+                notCancelled(),
+                endsAfter(criteria.from()),
+                startsBefore(criteria.until()),
+                inClub(criteria.clubId()),
+                hasCategory(criteria.category()),
+                hasAnyTag(criteria.tags()),
+                isPaid(criteria.paid()),
+                hasVisibility(criteria.visibility()),
+                hasVenueType(criteria.venueType()),
+                fetchCreator()
+        );
+    }
+
+    public static Specification<Event> hasStatus(EventStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Event> notCancelled() {
+        return (root, query, cb) -> cb.isNull(root.get("cancelledAt"));
+    }
+
+    public static Specification<Event> endsAfter(LocalDateTime time) {
+        return time == null ? null : (root, query, cb) -> cb.greaterThan(root.get("endTime"), time);
+    }
+
+    public static Specification<Event> startsBefore(LocalDateTime time) {
+        return time == null ? null : (root, query, cb) -> cb.lessThan(root.get("startTime"), time);
+    }
+
+    // Compares the club_id column directly; navigating to the id does not join clubs
+    public static Specification<Event> inClub(UUID clubId) {
+        return clubId == null ? null : (root, query, cb) -> cb.equal(root.get("club").get("id"), clubId);
+    }
+
+    public static Specification<Event> hasCategory(EventCategory category) {
+        return category == null ? null : (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    /**
+     * Events sharing at least one tag with {@code tags}, rendered as the Postgres array overlap {@code &&}
+     */
+    public static Specification<Event> hasAnyTag(Collection<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        String arrayLiteral = tags.stream()
+                .map(tag -> "\"" + tag.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                .collect(Collectors.joining(",", "{", "}"));
+        return (root, query, cb) -> cb.isTrue(cb.function(
+                PostgresFunctions.TEXT_ARRAY_OVERLAPS, Boolean.class, root.get("tags"), cb.literal(arrayLiteral)));
+    }
+
+    public static Specification<Event> isPaid(Boolean paid) {
+        return paid == null ? null : (root, query, cb) -> cb.equal(root.get("isPaid"), paid);
+    }
+
+    public static Specification<Event> hasVisibility(EventVisibility visibility) {
+        return visibility == null ? null : (root, query, cb) -> cb.equal(root.get("visibility"), visibility);
+    }
+
+    public static Specification<Event> hasVenueType(VenueType venueType) {
+        return venueType == null ? null : (root, query, cb) -> cb.equal(root.get("venueType"), venueType);
+    }
+
+    /**
+     * Loads the creator with the events, since every {@code EventResponse} carries its email.
+     * Count queries are left alone, as a fetch join is not allowed there.
+     */
+    public static Specification<Event> fetchCreator() {
+        return (root, query, cb) -> {
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("createdBy", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.omkar.uni.verse.repository.specifications;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Postgres operators used by specifications that have no JPQL counterpart.
+ * Registered with Hibernate through {@code META-INF/services}.
+ */
+public class PostgresFunctions implements FunctionContributor {
+
+    /**
+     * {@code text_array_overlaps(column, '{a,b}')}: true when the text[] column shares an element with the array literal
+     */
+    public static final String TEXT_ARRAY_OVERLAPS = "text_array_overlaps";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+
+        functionContributions.getFunctionRegistry()
+                .registerPattern(TEXT_ARRAY_OVERLAPS, "(?1 && cast(?2 as text[]))", booleanType);
+    }
+}
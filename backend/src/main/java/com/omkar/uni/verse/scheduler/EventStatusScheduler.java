@@ -3,6 +3,7 @@ package com.omkar.uni.verse.scheduler;
 import com.omkar.uni.verse.domain.entities.events.Event;
 import com.omkar.uni.verse.domain.entities.events.EventStatus;
 import com.omkar.uni.verse.repository.EventRepository;
+import com.omkar.uni.verse.services.SeatStateEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -19,6 +20,7 @@ import java.util.List;
 public class EventStatusScheduler {
 
     private final EventRepository eventRepository;
+    private final SeatStateEngine seatStateEngine;
 
     /**
      * Scheduled task that runs every hour to mark completed events.
@@ -49,6 +51,7 @@ public class EventStatusScheduler {
         
         eventsToComplete.forEach(event -> {
             event.setStatus(EventStatus.COMPLETED);
+            seatStateEngine.evict(event.getId());
             log.info("Marked event '{}' (ID: {}) as COMPLETED. End time was: {}", 
                     event.getTitle(), event.getId(), event.getEndTime());
         });
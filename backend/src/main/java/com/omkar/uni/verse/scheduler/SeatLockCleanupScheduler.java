@@ -1,44 +1,105 @@
 package com.omkar.uni.verse.scheduler;
 
-import com.omkar.uni.verse.domain.entities.events.EventSeats;
+import com.omkar.uni.verse.domain.dto.events.SeatStatusChange;
+import com.omkar.uni.verse.domain.dto.events.bookings.SeatEventRef;
 import com.omkar.uni.verse.domain.entities.events.SeatStatus;
 import com.omkar.uni.verse.repository.EventSeatsRepository;
+import com.omkar.uni.verse.services.EventSeatManagementService;
+import com.omkar.uni.verse.services.RedisLockService;
+import com.omkar.uni.verse.services.SeatChangeLogService;
+import com.omkar.uni.verse.services.SeatHoldExpiryService;
+import com.omkar.uni.verse.services.SeatStateEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SeatLockCleanupScheduler {
 
+    private static final String LEADER_LOCK_RESOURCE = "scheduler:seat-lock-cleanup";
+    private static final long LEADER_LOCK_TTL_SECONDS = 55;
+
     private final EventSeatsRepository eventSeatsRepository;
+    private final SeatStateEngine seatStateEngine;
+    private final SeatChangeLogService seatChangeLogService;
+    private final EventSeatManagementService eventSeatManagementService;
+    private final RedisLockService redisLockService;
+    private final SeatHoldExpiryService seatHoldExpiryService;
 
-    @Scheduled(fixedRate = 60000) // every 1 min
-    @Transactional
-    public void cleanUpExpiredLocks() {
+    @Value("${seats.lock-cleanup.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Releases holds within about a second of expiry. Due seat ids are claimed atomically from the
+     * shared Redis expiry index, so every node can poll without a leader and work is O(expiring seats).
+     */
+    @Scheduled(fixedDelayString = "${seats.hold-expiry.poll-interval-ms:1000}")
+    public void releaseDueHolds() {
         LocalDateTime now = LocalDateTime.now();
+        List<Long> due;
+        do {
+            due = seatHoldExpiryService.claimDueHolds(now, batchSize);
+            if (!due.isEmpty()) {
+                publishReleased(eventSeatsRepository.releaseExpiredLocksByIds(due, now));
+            }
+        } while (due.size() == batchSize);
+    }
 
-        List<EventSeats> expiredSeats = eventSeatsRepository.findByStatusAndLockExpiresAtIsBefore(SeatStatus.LOCKED, now);
-        if (expiredSeats.isEmpty()) {
+    /**
+     * Backstop for holds missing from the expiry index (Redis write failures, crashes after a claim).
+     * Releases expired seat holds with set-based UPDATE ... RETURNING statements in bounded chunks.
+     * Only the node holding the cluster-wide leader lock runs it; each chunk commits on its own so
+     * row locks are held briefly and live bookings are not blocked behind one large transaction.
+     */
+    @Scheduled(fixedRate = 60000) // every 1 min
+    public void cleanUpExpiredLocks() {
+        String leaderToken = UUID.randomUUID().toString();
+        if (!redisLockService.tryLock(LEADER_LOCK_RESOURCE, leaderToken, LEADER_LOCK_TTL_SECONDS, TimeUnit.SECONDS)) {
+            log.debug("Seat lock cleanup already running on another node");
             return;
         }
 
-        log.info("Found {} expired seat locks to clean up", expiredSeats.size());
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int released = 0;
+            List<SeatEventRef> chunk;
+            do {
+                chunk = eventSeatsRepository.releaseExpiredLocks(now, batchSize);
+                publishReleased(chunk);
+                released += chunk.size();
+            } while (chunk.size() == batchSize);
 
-        for (EventSeats seat : expiredSeats) {
-            seat.setStatus(SeatStatus.AVAILABLE);
-            seat.setLockedBy(null);
-            seat.setLockExpiresAt(null);
+            if (released > 0) {
+                log.info("Cleaned up {} expired seat locks", released);
+            }
+        } finally {
+            redisLockService.unlock(LEADER_LOCK_RESOURCE, leaderToken);
         }
+    }
 
-        eventSeatsRepository.saveAll(expiredSeats);
-
-        log.info("Cleaned up {} expired seat locks", expiredSeats.size());
+    private void publishReleased(List<SeatEventRef> released) {
+        released.forEach(lock -> seatStateEngine.markAvailable(lock.getSeatId()));
+        released.stream()
+                .collect(Collectors.groupingBy(
+                        SeatEventRef::getEventId,
+                        Collectors.mapping(
+                                lock -> new SeatStatusChange(lock.getSeatId(), SeatStatus.AVAILABLE, lock.getVersion()),
+                                Collectors.toList()
+                        )
+                ))
+                .forEach((eventId, changes) -> {
+                    seatChangeLogService.recordChanges(eventId, changes);
+                    eventSeatManagementService.evictEventSeats(eventId);
+                });
     }
 }
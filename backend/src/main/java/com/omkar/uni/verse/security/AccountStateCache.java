@@ -0,0 +1,39 @@
+package com.omkar.uni.verse.security;
+
+import com.omkar.uni.verse.domain.dto.user.AccountState;
+import com.omkar.uni.verse.repository.UserRepository;
+import com.omkar.uni.verse.utils.LocalTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Node-local, short-lived cache of account status and role used by stateless JWT authentication.
+ * <p>
+ * Entries are dropped on every node through {@link UserDetailsCache} when a user is suspended or
+ * changes role; the TTL only bounds staleness if an invalidation message is lost.
+ */
+@Component
+public class AccountStateCache {
+
+    private final UserRepository userRepository;
+    private final LocalTtlCache<UUID, AccountState> cache;
+
+    public AccountStateCache(UserRepository userRepository,
+                             @Value("${security.jwt.account-state-cache.ttl-seconds:30}") long ttlSeconds,
+                             @Value("${security.jwt.account-state-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.cache = new LocalTtlCache<>(Duration.ofSeconds(ttlSeconds), maxSize);
+    }
+
+    public Optional<AccountState> get(UUID userId) {
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findAccountStateById(id).orElse(null)));
+    }
+
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.omkar.uni.verse.security;
+
+import com.omkar.uni.verse.domain.entities.user.RoleName;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Principal built straight from access token claims when stateless JWT authentication is enabled.
+ * Services that need the {@code User} entity get it through {@link CurrentUserProvider}, which loads it
+ * on first use.
+ */
+public record AuthenticatedUser(UUID id, String email, RoleName role) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
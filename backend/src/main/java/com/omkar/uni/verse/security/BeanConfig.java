@@ -1,33 +1,43 @@
 package com.omkar.uni.verse.security;
 
+import com.omkar.uni.verse.domain.entities.user.User;
 import com.omkar.uni.verse.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 public class BeanConfig {
 
     private final UserRepository userRepository;
 
+    // Per-request authentication in JwtFilter, served from the two-level user cache
     @Bean
-    public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
-                .orElseThrow(() -> new org.springframework.security.core.userdetails.UsernameNotFoundException("User not found"));
+    public UserDetailsService userDetailsService(UserDetailsCache userDetailsCache) {
+        return username -> userDetailsCache.get(username, this::loadUser);
     }
 
     @Bean
     public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
-        DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider(userDetailsService());
+        // Login always reads the current row: it needs the password hash and saves the returned entity
+        DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider(this::loadUser);
         authenticationProvider.setPasswordEncoder(passwordEncoder);
+        // Rehashes on successful login when the stored hash is weaker than the configured strength
+        authenticationProvider.setUserDetailsPasswordService(this::updatePassword);
         return authenticationProvider;
     }
 
@@ -37,8 +47,31 @@ public class BeanConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int bcryptStrength,
+                                           @Value("${security.password.hashing.max-concurrent:0}") int maxConcurrentHashes,
+                                           @Value("${server.tomcat.threads.max:200}") int requestThreads) {
+        String encodingId = "bcrypt";
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+                encodingId, Map.of(encodingId, new BCryptPasswordEncoder(bcryptStrength))
+        );
+        // Hashes stored before the {bcrypt} prefix was introduced still match and are upgraded on login
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(bcryptStrength));
+
+        int permits = maxConcurrentHashes > 0 ? maxConcurrentHashes : Runtime.getRuntime().availableProcessors();
+        // Hashing may never hold more than half of the request threads
+        permits = Math.clamp(permits, 1, Math.max(1, requestThreads / 2));
+        return new ConcurrencyLimitingPasswordEncoder(delegatingPasswordEncoder, permits);
+    }
+
+    private UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        user.setPassword(newPassword);
+        return userRepository.save(user);
+    }
+
+    private User loadUser(String username) {
+        return userRepository.findByEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
 }
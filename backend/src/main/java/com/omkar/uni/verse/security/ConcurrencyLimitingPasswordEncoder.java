@@ -0,0 +1,59 @@
+package com.omkar.uni.verse.security;
+
+import com.omkar.uni.verse.exception.ServiceBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many password hashes run at once and sheds the rest immediately.
+ * <p>
+ * BCrypt is deliberately CPU-bound, so more concurrent hashes than cores only adds latency. A hash
+ * runs on the request thread that asked for it, but only while it holds one of a fixed number of
+ * permits; a caller that finds none free gets a {@link ServiceBusyException} (503) without waiting.
+ * The permit count is kept well below the request thread pool, so a login storm can never occupy more
+ * than that many Tomcat threads and unrelated requests keep being served.
+ */
+@Slf4j
+public class ConcurrencyLimitingPasswordEncoder implements PasswordEncoder {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+
+    public ConcurrencyLimitingPasswordEncoder(PasswordEncoder delegate, int maxConcurrentHashes) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrentHashes);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return limited(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return limited(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // Only parses the stored hash, no hashing involved
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T limited(Supplier<T> hash) {
+        if (!permits.tryAcquire()) {
+            log.warn("All password hashing permits in use, shedding request");
+            throw new ServiceBusyException("The server is busy. Please try again shortly.", RETRY_AFTER_SECONDS);
+        }
+        try {
+            return hash.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.omkar.uni.verse.security;
+
+import com.omkar.uni.verse.domain.entities.user.User;
+import com.omkar.uni.verse.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Resolves the authenticated user for services.
+ * <p>
+ * With stateful authentication the principal already is the {@link User}. With stateless authentication
+ * it is an {@link AuthenticatedUser} and the entity is loaded on the first {@link #getCurrentUser()} call,
+ * then put back into the security context so the rest of the request reuses it.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserProvider {
+
+    private final UserRepository userRepository;
+
+    public User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new IllegalStateException("No authentication context available");
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof User user) {
+            return user;
+        }
+        if (!(principal instanceof AuthenticatedUser authenticatedUser)) {
+            throw new IllegalStateException("Invalid user authentication");
+        }
+
+        User user = userRepository.findById(authenticatedUser.id())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+
+        UsernamePasswordAuthenticationToken loaded =
+                new UsernamePasswordAuthenticationToken(user, null, authentication.getAuthorities());
+        loaded.setDetails(authentication.getDetails());
+        SecurityContextHolder.getContext().setAuthentication(loaded);
+        return user;
+    }
+
+    /**
+     * The current user for queries that only need its id (for example as a query parameter), without
+     * loading the entity. Empty for anonymous requests.
+     */
+    public Optional<User> findCurrentUserReference() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return Optional.empty();
+        }
+
+        return switch (authentication.getPrincipal()) {
+            case User user -> Optional.of(user);
+            case AuthenticatedUser authenticatedUser -> Optional.of(userRepository.getReferenceById(authenticatedUser.id()));
+            default -> Optional.empty();
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package com.omkar.uni.verse.security;
 
+import com.omkar.uni.verse.domain.dto.user.AccountState;
+import com.omkar.uni.verse.domain.entities.user.RoleName;
 import com.omkar.uni.verse.services.JwtService;
 import com.omkar.uni.verse.services.TokenBlacklistService;
 import jakarta.servlet.FilterChain;
@@ -8,7 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,6 +20,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -27,6 +31,14 @@ public class JwtFilter extends OncePerRequestFilter {
     private final UserDetailsService userDetailsService;
     private final JwtService jwtService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final AccountStateCache accountStateCache;
+
+    /**
+     * When enabled, requests are authenticated from the access token claims and a short-TTL account
+     * state cache instead of loading the user from Postgres on every request
+     */
+    @Value("${security.jwt.stateless.enabled:false}")
+    private boolean statelessAuthentication;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -34,16 +46,17 @@ public class JwtFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
-        final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        // Parsed and verified at most once per request, shared with the rate limiter
+        Optional<ParsedToken> parsedToken = jwtService.resolve(request);
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (parsedToken.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
-            String jwt = authHeader.substring(7);
-            String userEmail = jwtService.extractUsername(jwt);
+            ParsedToken jwt = parsedToken.get();
+            String userEmail = jwt.subject();
 
             if (tokenBlacklistService.isBlacklisted(jwt)) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -52,17 +65,22 @@ public class JwtFilter extends OncePerRequestFilter {
             }
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                // Tokens issued before the identity claims existed still go through the user lookup
+                if (statelessAuthentication && jwt.claims().get(JwtService.USER_ID_CLAIM) != null) {
+                    authenticateFromClaims(jwt, request);
+                } else {
+                    UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+
+                    if (jwtService.isTokenValid(jwt, userDetails)) {
+                        UsernamePasswordAuthenticationToken authToken =
+                                new UsernamePasswordAuthenticationToken(
+                                        userDetails,
+                                        null,
+                                        userDetails.getAuthorities()
+                                );
+                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(authToken);
+                    }
                 }
             }
         } catch (Exception e) {
@@ -73,4 +91,25 @@ public class JwtFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private void authenticateFromClaims(ParsedToken jwt, HttpServletRequest request) {
+        UUID userId = UUID.fromString(jwt.claims().get(JwtService.USER_ID_CLAIM, String.class));
+
+        // Suspensions, role changes and token revocations come from the account state cache, not from the token
+        Optional<AccountState> accountState = accountStateCache.get(userId);
+        if (accountState.isEmpty() || !accountState.get().accepts(jwt.tokenVersion())) {
+            log.debug("Rejecting token for inactive or unknown user {} or revoked token version", userId);
+            return;
+        }
+
+        RoleName role = accountState.get().role();
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(
+                        new AuthenticatedUser(userId, jwt.subject(), role),
+                        null,
+                        role.getInheritedAuthorities()
+                );
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -0,0 +1,44 @@
+package com.omkar.uni.verse.security;
+
+import com.omkar.uni.verse.services.JwtService;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * A bearer token whose signature and expiry have already been verified, together with its claims.
+ * <p>
+ * Parsed once per request by {@link com.omkar.uni.verse.services.JwtService#resolve} and stored under
+ * {@link #REQUEST_ATTRIBUTE}, so the rate limiter, the JWT filter and the blacklist check all work
+ * from the same result instead of verifying the HMAC again.
+ */
+public record ParsedToken(String value, Claims claims) {
+
+    public static final String REQUEST_ATTRIBUTE = ParsedToken.class.getName();
+
+    public String subject() {
+        return claims.getSubject();
+    }
+
+    public Date expiration() {
+        return claims.getExpiration();
+    }
+
+    /**
+     * Token version the token was issued with; tokens issued before versioning count as version 0
+     */
+    public int tokenVersion() {
+        Integer version = claims.get(JwtService.TOKEN_VERSION_CLAIM, Integer.class);
+        return version != null ? version : 0;
+    }
+
+    public boolean isExpired() {
+        return expiration().before(new Date());
+    }
+
+    @Override
+    public String toString() {
+        // Never log the raw token
+        return "ParsedToken(subject=" + subject() + ", expiration=" + expiration() + ")";
+    }
+}
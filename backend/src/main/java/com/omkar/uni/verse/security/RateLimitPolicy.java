@@ -0,0 +1,25 @@
+package com.omkar.uni.verse.security;
+
+/**
+ * How requests to one group of routes are rate limited.
+ *
+ * @param bucket            name of a dedicated per-client bucket, or null to draw from the client's shared bucket
+ * @param requestsPerMinute size and refill rate of the dedicated bucket; ignored for the shared bucket
+ * @param cost              tokens taken per request; 0 exempts the routes from rate limiting
+ */
+public record RateLimitPolicy(String bucket, int requestsPerMinute, int cost) {
+
+    public static final RateLimitPolicy EXEMPT = new RateLimitPolicy(null, 0, 0);
+
+    public static RateLimitPolicy shared(int cost) {
+        return new RateLimitPolicy(null, 0, cost);
+    }
+
+    public static RateLimitPolicy dedicated(String bucket, int requestsPerMinute, int cost) {
+        return new RateLimitPolicy(bucket, requestsPerMinute, cost);
+    }
+
+    public boolean isExempt() {
+        return cost == 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.omkar.uni.verse.security;
+
+import com.omkar.uni.verse.utils.PathTrie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Route patterns from the controllers mapped to their {@link RateLimitPolicy}.
+ * <p>
+ * Browsing draws one token per request from the client's shared bucket. Endpoints that hash passwords
+ * or send mail cost more from that same bucket, seat booking gets its own bucket so a ticket drop
+ * cannot starve browsing (and vice versa), and docs and health checks are exempt. Routes without a
+ * policy cost one shared token.
+ */
+@Component
+public class RateLimitPolicyRegistry {
+
+    private static final RateLimitPolicy DEFAULT = RateLimitPolicy.shared(1);
+
+    private final PathTrie<RateLimitPolicy> policies;
+
+    public RateLimitPolicyRegistry(@Value("${rate-limiting.cost.password-hashing:10}") int passwordHashingCost,
+                                   @Value("${rate-limiting.cost.email:5}") int emailCost,
+                                   @Value("${rate-limiting.seat-booking.requests-per-minute:30}") int seatBookingRequestsPerMinute) {
+        RateLimitPolicy passwordHashing = RateLimitPolicy.shared(passwordHashingCost);
+        RateLimitPolicy email = RateLimitPolicy.shared(emailCost);
+        RateLimitPolicy seatBooking = RateLimitPolicy.dedicated("seat-booking", seatBookingRequestsPerMinute, 1);
+
+        this.policies = new PathTrie<RateLimitPolicy>()
+                .add(PathTrie.ANY_METHOD, "/swagger-ui/**", RateLimitPolicy.EXEMPT)
+                .add(PathTrie.ANY_METHOD, "/v3/api-docs/**", RateLimitPolicy.EXEMPT)
+                .add("GET", "/actuator/health/**", RateLimitPolicy.EXEMPT)
+
+                .add("POST", "/api/v1/auth/login", passwordHashing)
+                .add("POST", "/api/v1/auth/register", passwordHashing)
+                .add("POST", "/api/v1/auth/reset-password", passwordHashing)
+                .add("POST", "/api/v1/auth/verify-email", email)
+                .add("POST", "/api/v1/auth/resend-verification", email)
+                .add("POST", "/api/v1/auth/forgot-password", email)
+
+                .add("POST", "/api/booking/{id}/lock", seatBooking)
+                .add("POST", "/api/booking/{id}/lock/release", seatBooking)
+                .add("POST", "/api/booking/{id}/confirm", seatBooking);
+    }
+
+    public RateLimitPolicy resolve(HttpServletRequest request) {
+        RateLimitPolicy policy = policies.match(
+                request.getMethod(), request.getRequestURI(), request.getContextPath().length());
+        return policy != null ? policy : DEFAULT;
+    }
+}
@@ -21,6 +21,7 @@ import java.io.IOException;
 public class RateLimitingFilter implements Filter {
     private final RateLimitingService rateLimitingService;
     private final JwtService jwtService;
+    private final RateLimitPolicyRegistry rateLimitPolicyRegistry;
     @Value("${requests.per.minute}")
     private int allowedRequestsPerMinute;
 
@@ -29,13 +30,21 @@ public class RateLimitingFilter implements Filter {
         HttpServletRequest httpServletRequest = (HttpServletRequest) servletRequest;
         HttpServletResponse httpServletResponse = (HttpServletResponse) servletResponse;
 
+        RateLimitPolicy policy = rateLimitPolicyRegistry.resolve(httpServletRequest);
+        if (policy.isExempt()) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
         // Get the clientKey to assign a bucket
         String clientKey = getClientKey(httpServletRequest);
 
-        // Get or create a bucket for this client
-        Bucket bucket = rateLimitingService.resolveBucketWithGreedyRefill(clientKey, allowedRequestsPerMinute);
+        // Get or create the bucket this route draws from for this client
+        Bucket bucket = policy.bucket() == null
+                ? rateLimitingService.resolveBucketWithGreedyRefill(clientKey, allowedRequestsPerMinute)
+                : rateLimitingService.resolveBucketWithGreedyRefill(clientKey + "|" + policy.bucket(), policy.requestsPerMinute());
 
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(policy.cost());
 
         if (probe.isConsumed()) {
             // Request allowed - add rate limit headers
@@ -55,19 +64,12 @@ public class RateLimitingFilter implements Filter {
     }
 
     private String getClientKey(HttpServletRequest httpServletRequest) {
-        // User based rate limiting key
-        String jwt = httpServletRequest.getHeader("Authorization");
-        if (jwt != null && jwt.startsWith("Bearer ")) {
-            try {
-                String token = jwt.substring(7);
-                String username = jwtService.extractUsername(token);
-
-                if (username != null) {
-                    return "user:" + username;
-                }
-            } catch (Exception e) {
-                log.warn("Failed to extract user from jwt: {}", e.getMessage());
-            }
+        // User based rate limiting key; the parsed token is cached on the request for JwtFilter
+        String username = jwtService.resolve(httpServletRequest)
+                .map(ParsedToken::subject)
+                .orElse(null);
+        if (username != null) {
+            return "user:" + username;
         }
 
         // IP based rate limiting key
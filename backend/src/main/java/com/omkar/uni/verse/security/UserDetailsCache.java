@@ -0,0 +1,189 @@
+package com.omkar.uni.verse.security;
+
+import com.omkar.uni.verse.domain.dto.user.CachedUser;
+import com.omkar.uni.verse.domain.entities.user.User;
+import com.omkar.uni.verse.utils.LocalTtlCache;
+import com.omkar.uni.verse.utils.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Two-level cache for the users that back request authentication in {@code JwtFilter}.
+ * <p>
+ * Level one is a bounded in-process cache with a short TTL, level two the Redis {@code users} region.
+ * Both hold {@link CachedUser} snapshots and every lookup hands out a fresh detached {@link User}.
+ * When a user is changed, {@link #evict(User)} drops the Redis entry and broadcasts the user on
+ * {@link #INVALIDATION_CHANNEL} so every node clears its local copy and its account state entry.
+ * <p>
+ * A lookup that read the user row before a change committed must not put that old row back into Redis
+ * after the eviction, or the stale status and token version would be served for the whole TTL. Every
+ * eviction therefore bumps a per-user generation in Redis before dropping the entry, and a lookup that
+ * filled Redis drops its entry again if the generation moved while it was loading. The local level keeps
+ * a window of at most its own TTL when an invalidation message overtakes such a lookup.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "users:invalidate";
+    private static final String CACHE_NAME = "users";
+    private static final String GENERATION_KEY_PREFIX = "users:generation:";
+    // Outlives any users entry and any load that could race an eviction
+    private static final Duration GENERATION_TTL = Duration.ofMinutes(10);
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final AccountStateCache accountStateCache;
+    private final LocalTtlCache<String, CachedUser> localCache;
+
+    public UserDetailsCache(CacheManager cacheManager,
+                            StringRedisTemplate stringRedisTemplate,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            AccountStateCache accountStateCache,
+                            @Value("${security.user-cache.local.ttl-seconds:30}") long localTtlSeconds,
+                            @Value("${security.user-cache.local.max-size:10000}") int localMaxSize) {
+        this.cacheManager = cacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.accountStateCache = accountStateCache;
+        this.localCache = new LocalTtlCache<>(Duration.ofSeconds(localTtlSeconds), localMaxSize);
+    }
+
+    @PostConstruct
+    void registerListener() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public User get(String email, Function<String, User> loader) {
+        CachedUser cached = localCache.get(email);
+        if (cached == null) {
+            cached = readShared(email);
+            if (cached == null) {
+                String generation = readGeneration(email);
+                cached = CachedUser.from(loader.apply(email));
+                if (!writeShared(email, cached, generation)) {
+                    // Evicted while loading: the row may predate the change, so hand it out once and keep it nowhere
+                    return cached.toUser();
+                }
+            }
+            localCache.put(email, cached);
+        }
+        return cached.toUser();
+    }
+
+    /**
+     * Drops the user from both levels on every node once the surrounding transaction has committed
+     */
+    public void evict(User user) {
+        String email = user.getEmail();
+        UUID userId = user.getId();
+
+        TransactionUtils.afterCommit(() -> {
+            evictShared(email);
+            evictLocal(userId, email);
+            try {
+                stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId + "|" + email);
+            } catch (Exception e) {
+                log.warn("Could not broadcast user cache invalidation for {}: {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    // Payload format: userId|email
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        try {
+            evictLocal(UUID.fromString(parts[0]), parts[1]);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed user invalidation message: {}", e.getMessage());
+        }
+    }
+
+    private void evictLocal(UUID userId, String email) {
+        localCache.invalidate(email);
+        accountStateCache.invalidate(userId);
+    }
+
+    // Redis trouble must not fail authentication; fall back to Postgres
+    private CachedUser readShared(String email) {
+        try {
+            Cache shared = cacheManager.getCache(CACHE_NAME);
+            return shared != null ? shared.get(email, CachedUser.class) : null;
+        } catch (Exception e) {
+            log.warn("Could not read user {} from the shared cache: {}", email, e.getMessage());
+            return null;
+        }
+    }
+
+    // Null when the generation cannot be read; the lookup then leaves the shared level alone
+    private String readGeneration(String email) {
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + email);
+            return generation != null ? generation : "0";
+        } catch (Exception e) {
+            log.warn("Could not read the cache generation of user {}: {}", email, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the user to Redis and checks the generation afterwards. An eviction that bumped it before the
+     * check is seen here; one that bumps it later also drops the entry itself, after this write.
+     *
+     * @return false when the user was evicted while it was loading and must not be cached
+     */
+    private boolean writeShared(String email, CachedUser cachedUser, String generation) {
+        if (generation == null) {
+            return true;
+        }
+
+        try {
+            Cache shared = cacheManager.getCache(CACHE_NAME);
+            if (shared == null) {
+                return true;
+            }
+            // Not deferred to a surrounding commit: the generation check has to follow the write
+            shared.putIfAbsent(email, cachedUser);
+            if (generation.equals(readGeneration(email))) {
+                return true;
+            }
+            shared.evictIfPresent(email);
+            return false;
+        } catch (Exception e) {
+            log.warn("Could not write user {} to the shared cache: {}", email, e.getMessage());
+            return true;
+        }
+    }
+
+    // Bump first: a concurrent lookup that wrote before the bump is removed by the delete that follows
+    private void evictShared(String email) {
+        try {
+            String key = GENERATION_KEY_PREFIX + email;
+            stringRedisTemplate.opsForValue().increment(key);
+            stringRedisTemplate.expire(key, GENERATION_TTL);
+
+            Cache shared = cacheManager.getCache(CACHE_NAME);
+            if (shared != null) {
+                shared.evictIfPresent(email);
+            }
+        } catch (Exception e) {
+            log.warn("Could not evict user {} from the shared cache: {}", email, e.getMessage());
+        }
+    }
+}
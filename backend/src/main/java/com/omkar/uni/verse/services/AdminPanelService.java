@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.services;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.MessageResponse;
 import com.omkar.uni.verse.domain.dto.admin.OrganizerRejectionReason;
 import com.omkar.uni.verse.domain.dto.admin.OrganizerVerificationResponse;
@@ -22,6 +23,8 @@ public interface AdminPanelService {
 
     PageResponse<UserBasicDTO> getUsers(AccountStatus accountStatus, RoleName roleName, int offset, int pageSize);
 
+    CursorResponse<UserBasicDTO> getUsersByCursor(AccountStatus accountStatus, RoleName roleName, String cursor, int pageSize);
+
     UserProfileResponse promoteToFaculty(UUID userId);
 
     UserProfileResponse suspendUser(UUID userId, UserSuspensionReason suspensionReason);
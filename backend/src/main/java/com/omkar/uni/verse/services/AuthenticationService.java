@@ -8,6 +8,8 @@ import com.omkar.uni.verse.domain.entities.clubs.VerificationStatus;
 import com.omkar.uni.verse.domain.entities.user.*;
 import com.omkar.uni.verse.mappers.UserMapper;
 import com.omkar.uni.verse.repository.*;
+import com.omkar.uni.verse.security.UserDetailsCache;
+import com.omkar.uni.verse.utils.HashUtils;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
 import jakarta.mail.MessagingException;
@@ -24,13 +26,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.Date;
-import java.util.HexFormat;
 import java.util.Optional;
 
 @Service
@@ -45,13 +42,14 @@ public class AuthenticationService {
     private final EmailService emailService;
     private final AuthenticationManager authenticationManager;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
     private final TokenBlacklistService tokenBlacklistService;
     private final OrganizerVerificationRepository organizerVerificationRepository;
     private final RateLimitingService rateLimitingService;
     private final OrganizerVerificationTokenRepository organizerVerificationTokenRepository;
     private final UserMapper userMapper;
     private final S3Service s3Service;
+    private final UserDetailsCache userDetailsCache;
 
     @Value("${spring.mail.username}")
     private String platformMailId;
@@ -153,7 +151,7 @@ public class AuthenticationService {
         log.info("Email verified successfully for user: {}", user.getEmail());
 
         String newAccessToken = jwtService.generateAccessToken(user);
-        String newRefreshToken = jwtService.generateRefreshToken(user, ipAddress, userAgent);
+        String newRefreshToken = refreshTokenService.issue(user, ipAddress, userAgent);
 
         return AuthenticationResponse.builder()
                 .refreshToken(newRefreshToken)
@@ -233,7 +231,7 @@ public class AuthenticationService {
         log.info("User logged in successfully: {}", user.getEmail());
 
         String newAccessToken = jwtService.generateAccessToken(user);
-        String newRefreshToken = jwtService.generateRefreshToken(user, ipAddress, userAgent);
+        String newRefreshToken = refreshTokenService.issue(user, ipAddress, userAgent);
 
         return AuthenticationResponse.builder()
                 .accessToken(newAccessToken)
@@ -311,14 +309,14 @@ public class AuthenticationService {
         token.setUsedAt(LocalDateTime.now());
         passwordResetTokenRepository.save(token);
 
-        // Update password
+        // Update password and revoke every token issued with the old one
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        user.revokeTokens();
         userRepository.save(user);
+        refreshTokenService.revokeAll(user);
+        userDetailsCache.evict(user);
 
         log.info("Password reset successfully for user: {}", user.getEmail());
-
-        // TODO: Invalidate all existing JWT tokens for this user
-        // This requires JWT blacklisting or token versioning implementation
     }
 
     public void sendOrganizerVerificationEmail(String email, String ipAddress) throws MessagingException {
@@ -351,20 +349,14 @@ public class AuthenticationService {
         log.info("Organizer verification email sent successfully to {}", user.getEmail());
     }
 
-    @Transactional(readOnly = true)
+    // The presented refresh token is spent; the response carries its replacement
     public AuthenticationResponse refreshAccessToken(String refreshToken) {
-        if (!jwtService.isRefreshTokenValid(refreshToken)) {
-            throw new IllegalArgumentException("Invalid or expired refresh token");
-        }
-
-        String username = jwtService.extractUsername(refreshToken);
-        User user = userRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
 
-        String newAccessToken = jwtService.generateAccessToken(user);
+        String newAccessToken = jwtService.generateAccessToken(rotation.user());
         return AuthenticationResponse.builder()
                 .accessToken(newAccessToken)
-                .refreshToken(refreshToken)
+                .refreshToken(rotation.refreshToken())
                 .build();
     }
 
@@ -468,28 +460,15 @@ public class AuthenticationService {
     }
 
     private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            return HexFormat.of().formatHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            log.error("SHA-256 algorithm not available", e);
-            throw new RuntimeException("Failed to hash token", e);
-        }
+        return HashUtils.sha256Hex(token);
     }
 
     public void logout(String accessToken, String refreshToken) {
-        // Revoke access token
-        RefreshToken token = refreshTokenRepository.findByTokenAndRevokedAtIsNull(refreshToken)
-                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
-
-        token.setRevokedAt(LocalDateTime.now());
-        refreshTokenRepository.save(token);
+        // Revoke refresh token
+        refreshTokenService.revoke(refreshToken);
 
         // Blacklist access token
-        Date expiration = jwtService.extractExpiration(accessToken);
-        long ttl = expiration.getTime() - System.currentTimeMillis();
-        tokenBlacklistService.blacklistTokens(accessToken, ttl);
+        tokenBlacklistService.blacklistTokens(jwtService.parse(accessToken));
 
         log.info("User logged out - both tokens invalidated");
     }
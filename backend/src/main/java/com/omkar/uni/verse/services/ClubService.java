@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.services;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.clubs.*;
 import org.springframework.data.domain.Page;
 
@@ -8,6 +9,9 @@ public interface ClubService {
 
     Page<ClubDTO> getAllClubs(int offset, int pageSize);
 
+    /** Keyset variant of {@link #getAllClubs}, newest first, without a total count */
+    CursorResponse<ClubDTO> getAllClubsByCursor(String cursor, int pageSize);
+
     ClubDTO getClubBySlug(String slug);
 
     ClubDTO updateClubBySlug(String slug, ClubUpdateRequest clubUpdateRequest);
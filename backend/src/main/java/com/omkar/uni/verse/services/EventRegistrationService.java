@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.services;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.MessageResponse;
 import com.omkar.uni.verse.domain.dto.events.CancelEventRegistrationRequest;
 import com.omkar.uni.verse.domain.dto.events.EventRegistrationResponse;
@@ -15,6 +16,8 @@ public interface EventRegistrationService {
 
     Page<EventRegistrationSummary> getClubEventRegistrations(String slug, UUID eventId, EventRegistrationStatus registrationStatus, int offset, int pageSize);
 
+    CursorResponse<EventRegistrationSummary> getClubEventRegistrationsByCursor(String slug, UUID eventId, EventRegistrationStatus registrationStatus, String cursor, int pageSize);
+
     Page<EventRegistrationSummary> getUserEventRegistrations(EventRegistrationStatus status, int offset, int pageSize);
 
 
@@ -2,6 +2,7 @@ package com.omkar.uni.verse.services;
 
 import com.omkar.uni.verse.domain.dto.events.CreateVenueRequest;
 import com.omkar.uni.verse.domain.dto.events.EventSeatResponse;
+import com.omkar.uni.verse.domain.dto.events.SeatMapDelta;
 import com.omkar.uni.verse.domain.dto.events.VenueSummary;
 import org.springframework.data.domain.Page;
 
@@ -14,4 +15,8 @@ public interface EventSeatManagementService {
 
     EventSeatResponse getEventSeats(UUID eventId);
 
+    SeatMapDelta getEventSeatChanges(UUID eventId, long sinceVersion);
+
+    void evictEventSeats(UUID eventId);
+
 }
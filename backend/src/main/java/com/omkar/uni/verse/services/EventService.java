@@ -1,16 +1,21 @@
 package com.omkar.uni.verse.services;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.events.EventResponse;
-import com.omkar.uni.verse.domain.entities.events.EventCategory;
+import com.omkar.uni.verse.domain.dto.events.EventSearchCriteria;
 import org.springframework.data.domain.Page;
 
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface EventService {
-    Page<EventResponse> getAllEvents(UUID clubId, EventCategory category,
-                                     LocalDateTime dateTime, int page, int size);
+    /**
+     * Published upcoming or running events matching the criteria, ordered by start time
+     */
+    Page<EventResponse> getAllEvents(EventSearchCriteria criteria, int page, int size);
+
+    /** Keyset variant of {@link #getAllEvents}, without a total count */
+    CursorResponse<EventResponse> getAllEventsByCursor(EventSearchCriteria criteria, String cursor, int size);
 
     EventResponse getEventById(UUID id);
 }
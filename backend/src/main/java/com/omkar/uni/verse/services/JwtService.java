@@ -1,40 +1,86 @@
 package com.omkar.uni.verse.services;
 
-import com.omkar.uni.verse.domain.entities.user.RefreshToken;
 import com.omkar.uni.verse.domain.entities.user.User;
-import com.omkar.uni.verse.repository.RefreshTokenRepository;
+import com.omkar.uni.verse.security.ParsedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
-import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
+@Slf4j
 public class JwtService {
-    private final RefreshTokenRepository refreshTokenRepository;
+    private static final String BEARER_PREFIX = "Bearer ";
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final Long accessKeyExpiration;
+
+    // Both are immutable and thread-safe, so they are built once instead of per token
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtService(@Value("${jwt.secret.key}") String jwtSecretKey,
+                      @Value("${jwt.access-key.expiration}") Long accessKeyExpiration) {
+        this.accessKeyExpiration = accessKeyExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecretKey));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    /**
+     * Verifies the token once and returns it with its claims.
+     *
+     * @throws JwtException if the signature is invalid, the token is malformed or it has expired
+     */
+    public ParsedToken parse(String token) {
+        return new ParsedToken(token, extractAllClaims(token));
+    }
 
-    @Value("${jwt.secret.key}")
-    private String jwtSecretKey;
+    /**
+     * Returns the verified bearer token of the request, parsing it only on the first call per request.
+     * Requests without a bearer token, or with one that fails verification, resolve to empty.
+     */
+    public Optional<ParsedToken> resolve(HttpServletRequest request) {
+        Object cached = request.getAttribute(ParsedToken.REQUEST_ATTRIBUTE);
+        if (cached != null) {
+            return cached instanceof ParsedToken parsedToken ? Optional.of(parsedToken) : Optional.empty();
+        }
 
-    @Value("${jwt.access-key.expiration}")
-    private Long accessKeyExpiration;
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
 
-    @Value("${jwt.refresh-key.expiration}")
-    private Long refreshKeyExpiration;
+        ParsedToken parsedToken = null;
+        try {
+            parsedToken = parse(authHeader.substring(BEARER_PREFIX.length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Rejected bearer token: {}", e.getMessage());
+        }
 
-    public JwtService(RefreshTokenRepository refreshTokenRepository) {
-        this.refreshTokenRepository = refreshTokenRepository;
+        // Remember failures too, so an invalid token is not verified again further down the chain
+        request.setAttribute(ParsedToken.REQUEST_ATTRIBUTE, parsedToken != null ? parsedToken : Boolean.FALSE);
+        return Optional.ofNullable(parsedToken);
     }
 
     public String extractUsername(String token) {
@@ -47,9 +93,7 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -62,33 +106,6 @@ public class JwtService {
         return buildToken(extraClaims, userDetails, accessKeyExpiration);
     }
 
-    public String generateRefreshToken(UserDetails userDetails, String ipAddress, String userAgent) {
-        String token = buildToken(new HashMap<>(), userDetails, refreshKeyExpiration);
-
-        // Save to database for revocation support
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user((User) userDetails)
-                .token(token)
-                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshKeyExpiration)))
-                .ipAddress(ipAddress)
-                .userAgent(userAgent)
-                .build();
-
-        refreshTokenRepository.save(refreshToken);
-        return token;
-    }
-
-    public boolean isRefreshTokenValid(String token) {
-        Optional<RefreshToken> refreshToken = refreshTokenRepository.findByTokenAndRevokedAtIsNull(token);
-
-        if (refreshToken.isEmpty()) {
-            return false;
-        }
-
-        RefreshToken rt = refreshToken.get();
-        return rt.getExpiresAt().isAfter(LocalDateTime.now()) && rt.getRevokedAt() == null;
-    }
-
     private String buildToken(HashMap<String, Object> extraClaims,
                               UserDetails userDetails,
                               Long keyExpiration) {
@@ -99,30 +116,39 @@ public class JwtService {
 
         return Jwts.builder()
                 .claims(extraClaims)
+                .id(UUID.randomUUID().toString())
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + keyExpiration))
                 .claim("authorities", authorities)
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .claims(identityClaims(userDetails))
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
+    // Lets stateless authentication build the principal without loading the user
+    private Map<String, Object> identityClaims(UserDetails userDetails) {
+        if (!(userDetails instanceof User user) || user.getId() == null) {
+            return Map.of();
+        }
+        return Map.of(
+                USER_ID_CLAIM, user.getId().toString(),
+                ROLE_CLAIM, user.getRole().name(),
+                TOKEN_VERSION_CLAIM, user.getTokenVersion()
+        );
+    }
+
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(parse(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(ParsedToken token, UserDetails userDetails) {
+        return token.subject().equals(userDetails.getUsername())
+                && !token.isExpired()
+                && (!(userDetails instanceof User user) || token.tokenVersion() == user.getTokenVersion());
     }
 
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
-
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
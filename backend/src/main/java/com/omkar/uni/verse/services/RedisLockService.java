@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.services;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 public interface RedisLockService {
@@ -7,6 +8,10 @@ public interface RedisLockService {
 
     boolean unlock(String resource, String lockValue);
 
+    boolean tryLockAll(List<String> resources, String lockValue, long ttl, TimeUnit unit);
+
+    int unlockAll(List<String> resources, String lockValue);
+
     boolean extendLock(String resource, String lockValue, long additionalTtl, TimeUnit unit);
 
     boolean isLocked(String resource);
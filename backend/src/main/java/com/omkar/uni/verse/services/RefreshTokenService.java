@@ -0,0 +1,253 @@
+package com.omkar.uni.verse.services;
+
+import com.omkar.uni.verse.domain.entities.user.RefreshToken;
+import com.omkar.uni.verse.domain.entities.user.User;
+import com.omkar.uni.verse.repository.RefreshTokenRepository;
+import com.omkar.uni.verse.repository.UserRepository;
+import com.omkar.uni.verse.security.UserDetailsCache;
+import com.omkar.uni.verse.utils.HashUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens in families.
+ * <p>
+ * A token is {@code familyId.secret} with 256 random bits of secret; only its SHA-256 digest is stored.
+ * Each login starts a family and every refresh consumes the presented token and issues its successor
+ * in the same family. Presenting a consumed token means it was copied, so the whole family is revoked.
+ * <p>
+ * The current head of each family is kept in Redis together with the user, so a refresh with the head
+ * is claimed by one script call and the database only receives the two writes, both keyed by the token
+ * index: the conditional consume, which also enforces revocation and expiry, and the successor insert.
+ * Tokens that are not the cached head (replays, unknown families, Redis trouble) are decided from Postgres.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int SECRET_BYTES = 32;
+    private static final int FAMILY_ID_LENGTH = 36;
+    private static final String FAMILY_KEY_PREFIX = "refresh:family:";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<String> rotateRefreshTokenScript;
+    private final Duration refreshKeyExpiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               UserDetailsCache userDetailsCache,
+                               StringRedisTemplate stringRedisTemplate,
+                               RedisScript<String> rotateRefreshTokenScript,
+                               @Value("${jwt.refresh-key.expiration}") long refreshKeyExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.rotateRefreshTokenScript = rotateRefreshTokenScript;
+        this.refreshKeyExpiration = Duration.ofMillis(refreshKeyExpiration);
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    /**
+     * Starts a new family for a fresh login
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public String issue(User user, String ipAddress, String userAgent) {
+        UUID familyId = UUID.randomUUID();
+        String token = newToken(familyId);
+        String tokenHash = HashUtils.sha256Hex(token);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(tokenHash)
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(refreshKeyExpiration))
+                .ipAddress(ipAddress)
+                .userAgent(userAgent)
+                .build());
+        cacheHead(familyId, tokenHash, user);
+        return token;
+    }
+
+    // The family revocation must survive the exception thrown to the caller, so it runs in its own transaction
+    @Transactional(propagation = Propagation.REQUIRES_NEW, noRollbackFor = IllegalArgumentException.class)
+    public Rotation rotate(String presentedToken) {
+        String tokenHash = HashUtils.sha256Hex(presentedToken);
+        UUID familyId = familyIdOf(presentedToken);
+
+        if (familyId != null) {
+            String successor = newToken(familyId);
+            String cachedHead = claimCachedHead(familyId, tokenHash, HashUtils.sha256Hex(successor));
+            if (cachedHead != null) {
+                return rotateCachedHead(familyId, tokenHash, successor, cachedHead);
+            }
+        }
+        return rotateFromDatabase(tokenHash);
+    }
+
+    /**
+     * Revokes the family of the presented token, ending that login on every device it was copied to
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void revoke(String presentedToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHashAndRevokedAtIsNull(HashUtils.sha256Hex(presentedToken))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        if (token.getFamilyId() != null) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now());
+            evictHeads(List.of(token.getFamilyId()));
+        } else {
+            refreshTokenRepository.revokeIfActive(token.getId(), LocalDateTime.now());
+        }
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public int revokeAll(User user) {
+        List<UUID> familyIds = refreshTokenRepository.findActiveFamilyIdsByUserId(user.getId());
+        int revoked = refreshTokenRepository.revokeAllByUserId(user.getId(), LocalDateTime.now());
+        evictHeads(familyIds);
+        return revoked;
+    }
+
+    // Cached value: head hash (64 chars) | user id | email
+    private Rotation rotateCachedHead(UUID familyId, String tokenHash, String successor, String cachedHead) {
+        String[] parts = cachedHead.split("\\|", 3);
+        User user = userDetailsCache.get(parts[2], email -> userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found")));
+
+        LocalDateTime now = LocalDateTime.now();
+        // Postgres stays authoritative: a token revoked or expired there but still cached is refused
+        if (!user.isEnabled() || refreshTokenRepository.consumeIfActive(tokenHash, now) == 0) {
+            evictHeads(List.of(familyId));
+            throw new IllegalArgumentException("Invalid or expired refresh token");
+        }
+
+        refreshTokenRepository.insertSuccessor(
+                UUID.randomUUID(), tokenHash, HashUtils.sha256Hex(successor), now.plus(refreshKeyExpiration), now);
+        return new Rotation(user, successor);
+    }
+
+    private Rotation rotateFromDatabase(String tokenHash) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashWithUser(tokenHash)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid or expired refresh token"));
+        User user = current.getUser();
+
+        if (current.getConsumedAt() != null) {
+            revokeFamilyOnReuse(current, user);
+            throw new IllegalArgumentException("Invalid or expired refresh token");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getRevokedAt() != null || !current.getExpiresAt().isAfter(now) || !user.isEnabled()) {
+            throw new IllegalArgumentException("Invalid or expired refresh token");
+        }
+
+        // Lost the race against a concurrent refresh with the same token
+        if (refreshTokenRepository.consumeIfActive(tokenHash, now) == 0) {
+            throw new IllegalArgumentException("Invalid or expired refresh token");
+        }
+
+        // Tokens issued before families existed start one on their first rotation
+        UUID familyId = current.getFamilyId() != null ? current.getFamilyId() : UUID.randomUUID();
+        String successor = newToken(familyId);
+        String successorHash = HashUtils.sha256Hex(successor);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(successorHash)
+                .familyId(familyId)
+                .expiresAt(now.plus(refreshKeyExpiration))
+                .ipAddress(current.getIpAddress())
+                .userAgent(current.getUserAgent())
+                .build());
+        cacheHead(familyId, successorHash, user);
+        return new Rotation(user, successor);
+    }
+
+    private void revokeFamilyOnReuse(RefreshToken reused, User user) {
+        int revoked;
+        if (reused.getFamilyId() != null) {
+            revoked = refreshTokenRepository.revokeFamily(reused.getFamilyId(), LocalDateTime.now());
+            evictHeads(List.of(reused.getFamilyId()));
+        } else {
+            revoked = refreshTokenRepository.revokeAllByUserId(user.getId(), LocalDateTime.now());
+        }
+        log.warn("Consumed refresh token reused for user {}; revoked {} refresh tokens of family {}",
+                user.getId(), revoked, reused.getFamilyId());
+    }
+
+    private String newToken(UUID familyId) {
+        byte[] secret = new byte[SECRET_BYTES];
+        secureRandom.nextBytes(secret);
+        return familyId + "." + ENCODER.encodeToString(secret);
+    }
+
+    private static UUID familyIdOf(String token) {
+        if (token.length() <= FAMILY_ID_LENGTH || token.charAt(FAMILY_ID_LENGTH) != '.') {
+            return null;
+        }
+        try {
+            return UUID.fromString(token.substring(0, FAMILY_ID_LENGTH));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Redis trouble must not fail a refresh; every path below falls back to Postgres
+    private String claimCachedHead(UUID familyId, String tokenHash, String successorHash) {
+        try {
+            return stringRedisTemplate.execute(
+                    rotateRefreshTokenScript,
+                    List.of(FAMILY_KEY_PREFIX + familyId),
+                    tokenHash, successorHash, String.valueOf(refreshKeyExpiration.toMillis())
+            );
+        } catch (Exception e) {
+            log.warn("Could not rotate refresh token family {} in Redis: {}", familyId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void cacheHead(UUID familyId, String tokenHash, User user) {
+        try {
+            stringRedisTemplate.opsForValue().set(
+                    FAMILY_KEY_PREFIX + familyId,
+                    tokenHash + "|" + user.getId() + "|" + user.getEmail(),
+                    refreshKeyExpiration
+            );
+        } catch (Exception e) {
+            log.warn("Could not cache head of refresh token family {}: {}", familyId, e.getMessage());
+        }
+    }
+
+    private void evictHeads(Collection<UUID> familyIds) {
+        if (familyIds.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(familyIds.stream().map(id -> FAMILY_KEY_PREFIX + id).toList());
+        } catch (Exception e) {
+            // The cached head is re-checked against Postgres on use, so a stale entry cannot be redeemed
+            log.warn("Could not evict refresh token families {} from Redis: {}", familyIds, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.omkar.uni.verse.services;
+
+import com.omkar.uni.verse.domain.dto.clubs.ClubDTO;
+import com.omkar.uni.verse.domain.dto.events.EventResponse;
+import com.omkar.uni.verse.domain.dto.search.SearchSuggestions;
+
+import java.util.List;
+
+public interface SearchService {
+    /** Published upcoming or running events matching the query, best match first */
+    List<EventResponse> searchEvents(String query, int offset, int pageSize);
+
+    /** Active clubs matching the query, best match first */
+    List<ClubDTO> searchClubs(String query, int offset, int pageSize);
+
+    /** Event titles and club names with a word starting with the prefix, for search-as-you-type */
+    SearchSuggestions autocomplete(String prefix);
+}
@@ -0,0 +1,15 @@
+package com.omkar.uni.verse.services;
+
+import com.omkar.uni.verse.domain.dto.events.SeatMapDelta;
+import com.omkar.uni.verse.domain.dto.events.SeatStatusChange;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SeatChangeLogService {
+    void recordChanges(UUID eventId, List<SeatStatusChange> changes);
+
+    long getCurrentVersion(UUID eventId);
+
+    SeatMapDelta getChangesSince(UUID eventId, long sinceVersion);
+}
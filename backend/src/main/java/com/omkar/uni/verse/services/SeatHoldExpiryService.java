@@ -0,0 +1,13 @@
+package com.omkar.uni.verse.services;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SeatHoldExpiryService {
+    void registerHolds(Collection<Long> seatIds, LocalDateTime lockExpiresAt);
+
+    void cancelHold(Long seatId);
+
+    List<Long> claimDueHolds(LocalDateTime now, int limit);
+}
@@ -0,0 +1,311 @@
+package com.omkar.uni.verse.services;
+
+import com.omkar.uni.verse.domain.dto.events.SeatStatusChange;
+import com.omkar.uni.verse.domain.entities.events.EventSeats;
+import com.omkar.uni.verse.domain.entities.events.SeatStatus;
+import com.omkar.uni.verse.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Node-local view of seat status per event, used to reject seat operations that are
+ * certain to lose before paying for a Redis lock and a Postgres read.
+ * <p>
+ * Each event keeps one packed {@code long} per seat in an {@link AtomicLongArray} indexed by
+ * {@code EventSeats.id - baseId}: the low 3 bits hold the {@link SeatStatus} ordinal and the
+ * remaining bits the hold expiry in epoch seconds. Postgres stays the source of truth; the engine
+ * only answers "definitely unavailable" (BOOKED, BLOCKED, or LOCKED with an unexpired hold) and
+ * everything else falls through to the normal locking path.
+ * <p>
+ * Transitions made on other nodes arrive through {@link #apply} from the seat change stream. A state
+ * is loaded at a change log version and takes the following versions in order; a gap means a message
+ * was lost, so the event is dropped and reloaded on its next use. A loaded state is also dropped after
+ * {@code seats.state-engine.max-age-seconds}, which bounds how long a stale bit can reject locks when
+ * the stream is down.
+ */
+@Service
+@Slf4j
+public class SeatStateEngine {
+
+    private static final int STATUS_BITS = 3;
+    private static final long STATUS_MASK = (1L << STATUS_BITS) - 1;
+    private static final long UNTRACKED = STATUS_MASK;
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+
+    // Ids of one event are allocated in a single batch, so gaps are rare; refuse pathological spans
+    private static final int MAX_SPAN_FACTOR = 4;
+    private static final int MIN_SPAN_SLACK = 1024;
+
+    private final Map<UUID, EventSeatState> statesByEvent = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, EventSeatState> statesByBaseId = new ConcurrentSkipListMap<>();
+    private final Set<UUID> loadingEvents = ConcurrentHashMap.newKeySet();
+    // Events whose seat ids were too sparse, with when to look at them again
+    private final Map<UUID, Long> untrackableUntilNanos = new ConcurrentHashMap<>();
+
+    @Value("${seats.state-engine.enabled:true}")
+    private boolean enabled;
+
+    @Value("${seats.state-engine.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    // Holds taken on other nodes arrive without their expiry; assume a full hold from when we hear of it
+    @Value("${seats.state-engine.remote-hold-seconds:300}")
+    private long remoteHoldSeconds;
+
+    /**
+     * Loads the event's seat state unless it is already loaded, is known to be untrackable, or another
+     * caller is loading it right now. In all of those cases nothing is queried: the caller returns at once
+     * and relies on its own database check, so a burst of locks on an expired or evicted event reloads it
+     * once instead of once per locker.
+     *
+     * @param version reads the change log version; called before {@code eventSeats}
+     * @param eventSeats reads every seat of the event
+     */
+    public void loadIfAbsent(UUID eventId, LongSupplier version, Supplier<List<EventSeats>> eventSeats) {
+        if (!canLoad(eventId) || !loadingEvents.add(eventId)) {
+            return;
+        }
+
+        try {
+            // Another caller may have finished a load between the check and taking the slot
+            if (!isLoaded(eventId)) {
+                load(eventId, version.getAsLong(), eventSeats.get());
+            }
+        } finally {
+            loadingEvents.remove(eventId);
+        }
+    }
+
+    /**
+     * @param version change log version read before {@code eventSeats}, so later changes are newer than it
+     */
+    public void load(UUID eventId, long version, List<EventSeats> eventSeats) {
+        if (!enabled || eventSeats.isEmpty()) {
+            return;
+        }
+
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        for (EventSeats eventSeat : eventSeats) {
+            minId = Math.min(minId, eventSeat.getId());
+            maxId = Math.max(maxId, eventSeat.getId());
+        }
+
+        long span = maxId - minId + 1;
+        if (span > (long) eventSeats.size() * MAX_SPAN_FACTOR + MIN_SPAN_SLACK) {
+            log.debug("Seat ids for event {} are too sparse to track ({} ids over span {})", eventId, eventSeats.size(), span);
+            untrackableUntilNanos.put(eventId, System.nanoTime() + TimeUnit.SECONDS.toNanos(maxAgeSeconds));
+            return;
+        }
+
+        EventSeatState state = new EventSeatState(eventId, minId, (int) span, version,
+                System.nanoTime() + TimeUnit.SECONDS.toNanos(maxAgeSeconds));
+        for (EventSeats eventSeat : eventSeats) {
+            state.set(eventSeat.getId(), eventSeat.getStatus(), eventSeat.getLockExpiresAt());
+        }
+
+        EventSeatState previous = statesByEvent.put(eventId, state);
+        if (previous != null) {
+            statesByBaseId.remove(previous.baseId, previous);
+        }
+        statesByBaseId.put(minId, state);
+        untrackableUntilNanos.remove(eventId);
+
+        log.debug("Loaded seat state for event {} ({} seats)", eventId, eventSeats.size());
+    }
+
+    /**
+     * Applies a batch of transitions published on the seat change stream, from this node or any other
+     */
+    public void apply(UUID eventId, long version, List<SeatStatusChange> changes) {
+        EventSeatState state = statesByEvent.get(eventId);
+        if (state == null) {
+            return;
+        }
+
+        synchronized (state) {
+            if (version <= state.version) {
+                return;
+            }
+            if (version > state.version + 1) {
+                log.debug("Seat state for event {} missed versions {}..{}, dropping it", eventId, state.version + 1, version - 1);
+                evict(eventId);
+                return;
+            }
+
+            LocalDateTime remoteHoldExpiry = LocalDateTime.now().plusSeconds(remoteHoldSeconds);
+            for (SeatStatusChange change : changes) {
+                long seatId = change.seatId();
+                if (state.covers(seatId) && state.get(seatId) != UNTRACKED) {
+                    state.set(seatId, change.status(), change.status() == SeatStatus.LOCKED ? remoteHoldExpiry : null);
+                }
+            }
+            state.version = version;
+        }
+    }
+
+    public void evict(UUID eventId) {
+        EventSeatState state = statesByEvent.remove(eventId);
+        if (state != null) {
+            statesByBaseId.remove(state.baseId, state);
+        }
+    }
+
+    /**
+     * The event of a tracked seat, or null when the seat is not tracked and the caller has to look it up
+     */
+    public UUID eventIdOf(Long seatId) {
+        EventSeatState state = stateFor(seatId);
+        return state != null && state.get(seatId) != UNTRACKED ? state.eventId : null;
+    }
+
+    /**
+     * True only when the seat is known to be unavailable for locking. Unknown seats return false.
+     */
+    public boolean isUnavailable(Long seatId) {
+        EventSeatState state = stateFor(seatId);
+        if (state == null) {
+            return false;
+        }
+
+        long packed = state.get(seatId);
+        if (packed == UNTRACKED) {
+            return false;
+        }
+
+        return switch (STATUSES[(int) (packed & STATUS_MASK)]) {
+            case BOOKED, BLOCKED -> true;
+            case LOCKED -> (packed >>> STATUS_BITS) > nowEpochSeconds();
+            case AVAILABLE -> false;
+        };
+    }
+
+    public boolean isBooked(Long seatId) {
+        EventSeatState state = stateFor(seatId);
+        if (state == null) {
+            return false;
+        }
+
+        long packed = state.get(seatId);
+        return packed != UNTRACKED && STATUSES[(int) (packed & STATUS_MASK)] == SeatStatus.BOOKED;
+    }
+
+    public void markLocked(Long seatId, LocalDateTime lockExpiresAt) {
+        update(seatId, SeatStatus.LOCKED, lockExpiresAt);
+    }
+
+    public void markBooked(Long seatId) {
+        update(seatId, SeatStatus.BOOKED, null);
+    }
+
+    public void markAvailable(Long seatId) {
+        update(seatId, SeatStatus.AVAILABLE, null);
+    }
+
+    // Transitions are only published once the surrounding transaction has committed
+    private void update(Long seatId, SeatStatus status, LocalDateTime lockExpiresAt) {
+        EventSeatState state = stateFor(seatId);
+        if (state == null || state.get(seatId) == UNTRACKED) {
+            return;
+        }
+
+        TransactionUtils.afterCommit(() -> state.set(seatId, status, lockExpiresAt));
+    }
+
+    private boolean canLoad(UUID eventId) {
+        if (!enabled || isLoaded(eventId)) {
+            return false;
+        }
+
+        Long untrackableUntil = untrackableUntilNanos.get(eventId);
+        if (untrackableUntil == null) {
+            return true;
+        }
+        if (System.nanoTime() - untrackableUntil > 0) {
+            untrackableUntilNanos.remove(eventId, untrackableUntil);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isLoaded(UUID eventId) {
+        EventSeatState state = statesByEvent.get(eventId);
+        return state != null && System.nanoTime() - state.expiresAtNanos <= 0;
+    }
+
+    private EventSeatState stateFor(Long seatId) {
+        if (!enabled || seatId == null) {
+            return null;
+        }
+
+        Map.Entry<Long, EventSeatState> entry = statesByBaseId.floorEntry(seatId);
+        if (entry == null || !entry.getValue().covers(seatId)) {
+            return null;
+        }
+
+        EventSeatState state = entry.getValue();
+        if (System.nanoTime() - state.expiresAtNanos > 0) {
+            // Reloaded by the next lock attempt on this event
+            statesByBaseId.remove(state.baseId, state);
+            statesByEvent.values().remove(state);
+            return null;
+        }
+        return state;
+    }
+
+    private static long nowEpochSeconds() {
+        return toEpochSeconds(LocalDateTime.now());
+    }
+
+    private static long toEpochSeconds(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static final class EventSeatState {
+        final UUID eventId;
+        final long baseId;
+        final AtomicLongArray seats;
+        final long expiresAtNanos;
+        // Last change log version applied; guarded by the state's monitor
+        long version;
+
+        EventSeatState(UUID eventId, long baseId, int span, long version, long expiresAtNanos) {
+            this.eventId = eventId;
+            this.baseId = baseId;
+            this.version = version;
+            this.expiresAtNanos = expiresAtNanos;
+            this.seats = new AtomicLongArray(span);
+            for (int i = 0; i < span; i++) {
+                seats.lazySet(i, UNTRACKED);
+            }
+        }
+
+        boolean covers(long seatId) {
+            long offset = seatId - baseId;
+            return offset >= 0 && offset < seats.length();
+        }
+
+        long get(long seatId) {
+            return seats.get((int) (seatId - baseId));
+        }
+
+        void set(long seatId, SeatStatus status, LocalDateTime lockExpiresAt) {
+            long expiry = lockExpiresAt != null ? toEpochSeconds(lockExpiresAt) : 0L;
+            seats.set((int) (seatId - baseId), (expiry << STATUS_BITS) | status.ordinal());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.omkar.uni.verse.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+public interface SeatStreamService {
+    String SEAT_UPDATES_CHANNEL = "seatmap:updates";
+
+    SseEmitter subscribe(UUID eventId);
+}
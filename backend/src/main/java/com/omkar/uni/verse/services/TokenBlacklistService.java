@@ -1,31 +1,178 @@
 package com.omkar.uni.verse.services;
 
-import lombok.RequiredArgsConstructor;
+import com.omkar.uni.verse.security.ParsedToken;
+import com.omkar.uni.verse.utils.BloomFilter;
+import com.omkar.uni.verse.utils.HashUtils;
+import com.omkar.uni.verse.utils.LocalTtlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
+/**
+ * Cluster-wide blacklist of revoked access tokens.
+ * <p>
+ * Redis is the source of truth: one key per token id ({@code jti}, or the SHA-256 of tokens issued
+ * without one) that expires together with the token. Every node keeps a Bloom filter of revoked ids,
+ * fed by {@link #REVOKED_CHANNEL} and seeded from Redis, so the check on the request path only goes
+ * to Redis when the filter reports a possible hit. The filter cannot delete, so it is split into two
+ * generations that rotate every access token lifetime; an id lives at least one full lifetime.
+ * <p>
+ * Revocations published while the subscription is down are lost, so every subscription confirmation
+ * (startup and each reconnect) re-seeds the filter. Until a seed has completed, a filter miss is not
+ * trusted and the token is checked against Redis as well.
+ */
 @Service
-@RequiredArgsConstructor
-public class TokenBlacklistService {
-    private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+@Slf4j
+public class TokenBlacklistService implements MessageListener, SubscriptionListener {
 
-    public void blacklistTokens(String token, long expirationMillis) {
-        blacklistedTokens.add(token);
+    public static final String REVOKED_CHANNEL = "tokens:revoked";
+    private static final String KEY_PREFIX = "blacklist:token:";
 
-        scheduler.schedule(
-                () -> blacklistedTokens.remove(token),
-                expirationMillis,
-                TimeUnit.MILLISECONDS
-        );
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Executor seedExecutor;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+    // Revocations are final until the token expires, so confirmed hits never need to be re-checked
+    private final LocalTtlCache<String, Boolean> confirmed;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile boolean synced;
+
+    public TokenBlacklistService(StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer redisMessageListenerContainer,
+                                 @Qualifier("applicationTaskExecutor") Executor seedExecutor,
+                                 @Value("${jwt.access-key.expiration}") long accessKeyExpiration,
+                                 @Value("${security.token-blacklist.expected-revocations:100000}") int expectedRevocations,
+                                 @Value("${security.token-blacklist.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${security.token-blacklist.confirmed.max-size:10000}") int confirmedMaxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.seedExecutor = seedExecutor;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.confirmed = new LocalTtlCache<>(Duration.ofMillis(accessKeyExpiration), confirmedMaxSize);
+        this.current = newFilter();
+        this.previous = newFilter();
+    }
+
+    @PostConstruct
+    void init() {
+        // Seeding starts from the subscription confirmation, so no revocation falls between the two
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_CHANNEL));
+    }
+
+    public void blacklistTokens(ParsedToken token) {
+        long ttlMillis = token.expiration().getTime() - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        String tokenId = tokenId(token);
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", Duration.ofMillis(ttlMillis));
+        remember(tokenId);
+        confirmed.put(tokenId, Boolean.TRUE);
+
+        try {
+            stringRedisTemplate.convertAndSend(REVOKED_CHANNEL, tokenId);
+        } catch (Exception e) {
+            log.warn("Could not broadcast token revocation: {}", e.getMessage());
+        }
+    }
+
+    public boolean isBlacklisted(ParsedToken token) {
+        String tokenId = tokenId(token);
+        boolean filterHit = current.mightContain(tokenId) || previous.mightContain(tokenId);
+        if (!filterHit && synced) {
+            return false;
+        }
+        if (confirmed.get(tokenId) != null) {
+            return true;
+        }
+
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + tokenId))) {
+                confirmed.put(tokenId, Boolean.TRUE);
+                return true;
+            }
+            return false;
+        } catch (Exception e) {
+            if (!filterHit) {
+                // Out of sync and Redis unreachable: nothing on this node says the token was revoked
+                log.warn("Could not check token revocation while the filter is out of sync: {}", e.getMessage());
+                return false;
+            }
+            // Rejecting filter hits keeps revoked tokens out while Redis is down
+            log.warn("Could not confirm token revocation, rejecting token: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        remember(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        synced = false;
+        // Off the listener thread, which must not block on another Redis call
+        seedExecutor.execute(this::seedFromRedis);
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        synced = false;
+    }
+
+    @Scheduled(fixedRateString = "${jwt.access-key.expiration}", initialDelayString = "${jwt.access-key.expiration}")
+    public void rotate() {
+        previous = current;
+        current = newFilter();
+    }
+
+    private void remember(String tokenId) {
+        current.put(tokenId);
+    }
+
+    private void seedFromRedis() {
+        int seeded = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                remember(keys.next().substring(KEY_PREFIX.length()));
+                seeded++;
+            }
+            synced = true;
+            log.info("Seeded token blacklist filter with {} revoked tokens", seeded);
+        } catch (Exception e) {
+            synced = false;
+            log.warn("Could not seed token blacklist filter from Redis after {} tokens: {}", seeded, e.getMessage());
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedRevocations, falsePositiveRate);
     }
 
-    public boolean isBlacklisted(String token) {
-        return blacklistedTokens.contains(token);
+    private static String tokenId(ParsedToken token) {
+        String jti = token.claims().getId();
+        return jti != null ? jti : HashUtils.sha256Hex(token.value());
     }
 }
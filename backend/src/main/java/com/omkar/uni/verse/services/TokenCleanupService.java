@@ -3,19 +3,29 @@ package com.omkar.uni.verse.services;
 import com.omkar.uni.verse.repository.EmailVerificationTokenRepository;
 import com.omkar.uni.verse.repository.OrganizerVerificationTokenRepository;
 import com.omkar.uni.verse.repository.PasswordResetTokenRepository;
+import com.omkar.uni.verse.repository.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class TokenCleanupService {
 
     private final EmailVerificationTokenRepository emailVerificationTokenRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final OrganizerVerificationTokenRepository organizerVerificationTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    // Revoked refresh tokens are kept for a while so that a replayed token is still recognised as reuse
+    @Value("${security.refresh-token.revoked-retention-days:7}")
+    private long revokedRefreshTokenRetentionDays;
 
     @Scheduled(cron = "0 0 2 * * ?")  // Run daily at 2 AM
     public void cleanupExpiredTokens() {
@@ -23,4 +33,12 @@ public class TokenCleanupService {
         passwordResetTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
         organizerVerificationTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
     }
+
+    @Scheduled(cron = "0 30 2 * * ?")  // Run daily at 2:30 AM
+    @Transactional(rollbackFor = Exception.class)
+    public void purgeRefreshTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = refreshTokenRepository.deleteExpiredOrRevokedBefore(now, now.minusDays(revokedRefreshTokenRetentionDays));
+        log.info("Purged {} expired or revoked refresh tokens", purged);
+    }
 }
@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.services.impl;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.MessageResponse;
 import com.omkar.uni.verse.domain.dto.admin.OrganizerRejectionReason;
 import com.omkar.uni.verse.domain.dto.admin.OrganizerVerificationResponse;
@@ -23,8 +24,12 @@ import com.omkar.uni.verse.repository.ClubRepository;
 import com.omkar.uni.verse.repository.EventRepository;
 import com.omkar.uni.verse.repository.OrganizerVerificationRepository;
 import com.omkar.uni.verse.repository.UserRepository;
+import com.omkar.uni.verse.security.CurrentUserProvider;
+import com.omkar.uni.verse.security.UserDetailsCache;
 import com.omkar.uni.verse.services.AdminPanelService;
+import com.omkar.uni.verse.services.RefreshTokenService;
 import com.omkar.uni.verse.services.S3Service;
+import com.omkar.uni.verse.utils.CursorPagination;
 import com.omkar.uni.verse.utils.PaginationValidator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -32,12 +37,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -60,6 +66,9 @@ public class AdminPanelServiceImpl implements AdminPanelService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final EventRepository eventRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final UserDetailsCache userDetailsCache;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     @PreAuthorize("hasAnyAuthority('ROLE_SUPERADMIN','ROLE_FACULTY')")
@@ -133,6 +142,31 @@ public class AdminPanelServiceImpl implements AdminPanelService {
         return new PageResponse<>(users.getContent(), users.getTotalPages());
     }
 
+    @Override
+    @PreAuthorize("hasAnyAuthority('ROLE_SUPERADMIN','ROLE_FACULTY')")
+    @Transactional(readOnly = true)
+    public CursorResponse<UserBasicDTO> getUsersByCursor(AccountStatus accountStatus, RoleName roleName, String cursor, int pageSize) {
+        log.debug("Fetching users by cursor with accountStatus: {}, role: {}, pageSize: {}",
+                accountStatus, roleName, pageSize);
+
+        ScrollPosition position = CursorPagination.position(cursor, "createdAt");
+        Sort sort = CursorPagination.sort("createdAt", Sort.Direction.DESC);
+        Limit limit = CursorPagination.limit(pageSize);
+
+        Window<User> users;
+        if (accountStatus != null && roleName != null) {
+            users = userRepository.findAllByAccountStatusAndRole(accountStatus, roleName, position, sort, limit);
+        } else if (accountStatus != null) {
+            users = userRepository.findAllByAccountStatus(accountStatus, position, sort, limit);
+        } else if (roleName != null) {
+            users = userRepository.findAllByRole(roleName, position, sort, limit);
+        } else {
+            users = userRepository.findAllBy(position, sort, limit);
+        }
+
+        return CursorPagination.toResponse(users, "createdAt", userMapper::toUserBasicDto);
+    }
+
     @Override
     @PreAuthorize("hasAuthority('ROLE_SUPERADMIN')")
     @Transactional(rollbackFor = Exception.class)
@@ -173,6 +207,7 @@ public class AdminPanelServiceImpl implements AdminPanelService {
         RoleName previousRole = userToBePromoted.getRole();
         userToBePromoted.setRole(RoleName.FACULTY);
         userRepository.save(userToBePromoted);
+        userDetailsCache.evict(userToBePromoted);
 
         log.info("Successfully promoted user: {} from: {} to FACULTY by admin {}",
                 userId, previousRole, getCurrentUserId());
@@ -227,8 +262,13 @@ public class AdminPanelServiceImpl implements AdminPanelService {
 
         // CRITICAL FIX: Actually set the account status to SUSPENDED
         userToBeSuspended.setAccountStatus(AccountStatus.SUSPENDED);
+        // Ends every live session, including refresh tokens
+        userToBeSuspended.revokeTokens();
 
         userRepository.save(userToBeSuspended);
+        refreshTokenService.revokeAll(userToBeSuspended);
+        // Cached users and account states are dropped on every node once this commits
+        userDetailsCache.evict(userToBeSuspended);
 
         log.warn("User {} suspended by {} (role: {}) for reason: {}",
                 userId, currentUser.getId(), currentUser.getRole(), suspensionReason.message());
@@ -302,6 +342,7 @@ public class AdminPanelServiceImpl implements AdminPanelService {
             userToBeVerified.setAccountStatus(AccountStatus.ACTIVE);
             userToBeVerified.setRole(RoleName.CLUB_LEADER);
             userRepository.save(userToBeVerified);
+            userDetailsCache.evict(userToBeVerified);
         }
 
         log.info("Successfully verified Organizer: {}. They should now sign in and register their club at /clubs/register.",
@@ -367,21 +408,7 @@ public class AdminPanelServiceImpl implements AdminPanelService {
     }
 
     private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-
-        if (auth == null) {
-            log.error("No authentication found in SecurityContext");
-            throw new IllegalStateException("No authentication context available");
-        }
-
-        Object principal = auth.getPrincipal();
-        if (!(principal instanceof User)) {
-            log.error("Authentication principal is not a User instance: {}",
-                    principal != null ? principal.getClass().getName() : "null");
-            throw new IllegalStateException("Invalid authentication principal type");
-        }
-
-        return (User) principal;
+        return currentUserProvider.getCurrentUser();
     }
 
     private UUID getCurrentUserId() {
@@ -12,6 +12,8 @@ import com.omkar.uni.verse.domain.entities.clubs.*;
 import com.omkar.uni.verse.domain.entities.user.RoleName;
 import com.omkar.uni.verse.domain.entities.user.User;
 import com.omkar.uni.verse.repository.*;
+import com.omkar.uni.verse.security.CurrentUserProvider;
+import com.omkar.uni.verse.security.UserDetailsCache;
 import com.omkar.uni.verse.services.ClubManagementService;
 import com.omkar.uni.verse.utils.PaginationValidator;
 import jakarta.persistence.EntityNotFoundException;
@@ -25,7 +27,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +46,8 @@ public class ClubManagementServiceImpl implements ClubManagementService {
     private final UserRepository userRepository;
     private final ClubMemberRepository clubMemberRepository;
     private final ClubLeaderRepository clubLeaderRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
@@ -54,9 +57,7 @@ public class ClubManagementServiceImpl implements ClubManagementService {
         Club club = clubRepository.findBySlugAndClubStatus(slug, ClubStatus.ACTIVE)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
 
-        User user = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User user = currentUserProvider.getCurrentUser();
 
         if (clubJoinRequestRepository.existsClubJoinRequestByUserAndClub(user, club)) {
             log.warn("Club joining request already exists User {} in Club: {}.", user.getEmail(), club.getName());
@@ -91,9 +92,7 @@ public class ClubManagementServiceImpl implements ClubManagementService {
         Club club = clubRepository.findBySlugWithLeaders(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
 
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         if (club.getLeaders().stream().noneMatch(clubLeader -> clubLeader.getUser().equals(currentUser))) {
             log.warn("Access denied: User {} attempted to view join requests for club '{}' (slug: {}) but is not a leader",
@@ -119,9 +118,7 @@ public class ClubManagementServiceImpl implements ClubManagementService {
         Club club = clubRepository.findBySlugWithLeaders(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
 
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         if (club.getLeaders().stream().noneMatch(clubLeader -> clubLeader.getUser().equals(currentUser))) {
             log.warn("Access denied: User {} attempted to approve join request for club '{}' (slug: {}) but is not a leader",
@@ -168,9 +165,7 @@ public class ClubManagementServiceImpl implements ClubManagementService {
         Club club = clubRepository.findBySlugWithLeaders(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
 
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         if (club.getLeaders().stream().noneMatch(clubLeader -> clubLeader.getUser().equals(currentUser))) {
             log.warn("Access denied: User {} attempted to reject join request for club '{}' (slug: {}) but is not a leader",
@@ -208,9 +203,7 @@ public class ClubManagementServiceImpl implements ClubManagementService {
         Club club = clubRepository.findBySlugWithLeaders(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
 
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         if (club.getLeaders().stream().noneMatch(clubLeader -> clubLeader.getUser().equals(currentUser)) && club.getMembers().stream().noneMatch(clubMember -> clubMember.getUser().equals(currentUser))) {
             log.warn("Access denied: User {} attempted to get club members for club '{}' (slug: {}) but is not a leader/member",
@@ -261,9 +254,7 @@ public class ClubManagementServiceImpl implements ClubManagementService {
     @Transactional(rollbackFor = Exception.class)
 //    @CacheEvict(cacheNames = "clubMembers", allEntries = true)
     public ClubManagementResponse promoteClubMember(String slug, UUID id) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         Club club = clubRepository.findBySlugWithLeaders(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
@@ -285,6 +276,7 @@ public class ClubManagementServiceImpl implements ClubManagementService {
 
         userToBePromoted.setRole(RoleName.CLUB_LEADER);
         userRepository.save(userToBePromoted);
+        userDetailsCache.evict(userToBePromoted);
 
         ClubLeader newClubLeader = ClubLeader.builder()
                 .club(club)
@@ -306,9 +298,7 @@ public class ClubManagementServiceImpl implements ClubManagementService {
     @Transactional(rollbackFor = Exception.class)
 //    @CacheEvict(cacheNames = "clubMembers", allEntries = true)
     public ClubManagementResponse removeClubMember(String slug, UUID id) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         Club club = clubRepository.findBySlugWithLeaders(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
@@ -338,9 +328,7 @@ public class ClubManagementServiceImpl implements ClubManagementService {
     @Transactional(rollbackFor = Exception.class)
 //    @CacheEvict(cacheNames = "clubMembers", allEntries = true)
     public ClubManagementResponse leaveClub(String slug) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         Club club = clubRepository.findBySlugWithLeaders(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.services.impl;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.clubs.ClubDTO;
 import com.omkar.uni.verse.domain.dto.clubs.ClubRegistrationRequest;
 import com.omkar.uni.verse.domain.dto.clubs.ClubResponse;
@@ -10,7 +11,9 @@ import com.omkar.uni.verse.domain.entities.clubs.ClubStatus;
 import com.omkar.uni.verse.domain.entities.user.User;
 import com.omkar.uni.verse.mappers.ClubMapper;
 import com.omkar.uni.verse.repository.ClubRepository;
+import com.omkar.uni.verse.security.CurrentUserProvider;
 import com.omkar.uni.verse.services.ClubService;
+import com.omkar.uni.verse.utils.CursorPagination;
 import com.omkar.uni.verse.utils.PaginationValidator;
 import jakarta.persistence.EntityNotFoundException;
 
@@ -21,9 +24,9 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +40,7 @@ public class ClubServiceImpl implements ClubService {
 
     private final ClubRepository clubRepository;
     private final ClubMapper clubMapper;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @PreAuthorize("hasAuthority('ROLE_CLUB_LEADER')")
@@ -46,10 +50,7 @@ public class ClubServiceImpl implements ClubService {
         log.debug("Attempting to register new club with slug: {}", registrationRequest.getSlug());
 
         // Get the current authenticated user
-        User currentUser = (User) SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         log.debug("Club registration initiated by user: {} (ID: {})",
                 currentUser.getEmail(), currentUser.getId());
@@ -102,10 +103,7 @@ public class ClubServiceImpl implements ClubService {
     @Override
     @PreAuthorize("hasAuthority('ROLE_CLUB_LEADER')")
     public boolean hasMyClub() {
-        User currentUser = (User) SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
         return clubRepository.existsByCreatedBy(currentUser);
     }
 
@@ -121,6 +119,23 @@ public class ClubServiceImpl implements ClubService {
         return clubs;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<ClubDTO> getAllClubsByCursor(String cursor, int pageSize) {
+        log.debug("Fetching active clubs by cursor - size: {}", pageSize);
+
+        return CursorPagination.toResponse(
+                clubRepository.findAllByClubStatus(
+                        ClubStatus.ACTIVE,
+                        CursorPagination.position(cursor, "createdAt"),
+                        CursorPagination.sort("createdAt", Sort.Direction.DESC),
+                        CursorPagination.limit(pageSize)
+                ),
+                "createdAt",
+                clubMapper::toClubDTO
+        );
+    }
+
     @Override
     @Cacheable(cacheNames = "club", key = "#slug")
     public ClubDTO getClubBySlug(String slug) {
@@ -150,10 +165,7 @@ public class ClubServiceImpl implements ClubService {
                     return new EntityNotFoundException("Club not found or not activated!");
                 });
 
-        User currentUser = (User) SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         log.debug("Update requested by user: {} (ID: {}) for club: '{}' (ID: {})",
                 currentUser.getEmail(), currentUser.getId(), club.getName(), club.getId());
@@ -190,10 +202,7 @@ public class ClubServiceImpl implements ClubService {
                     return new EntityNotFoundException("Club not found.");
                 });
 
-        User currentUser = (User) SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         log.debug("Approval requested by {} for club: '{}' (current status: {})",
                 currentUser.getEmail(), club.getName(), club.getClubStatus());
@@ -234,10 +243,7 @@ public class ClubServiceImpl implements ClubService {
                     return new EntityNotFoundException("Club not found.");
                 });
 
-        User currentUser = (User) SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         log.debug("Rejection requested by {} for club: '{}' (current status: {})",
                 currentUser.getEmail(), club.getName(), club.getClubStatus());
@@ -278,10 +284,7 @@ public class ClubServiceImpl implements ClubService {
                     return new EntityNotFoundException("Club not found.");
                 });
 
-        User currentUser = (User) SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         log.debug("Suspension requested by {} for club: '{}' (current status: {})",
                 currentUser.getEmail(), club.getName(), club.getClubStatus());
@@ -7,7 +7,6 @@ import java.util.UUID;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +24,7 @@ import com.omkar.uni.verse.mappers.EventMapper;
 import com.omkar.uni.verse.repository.ClubRepository;
 import com.omkar.uni.verse.repository.EventRepository;
 import com.omkar.uni.verse.repository.EventVenueRepository;
+import com.omkar.uni.verse.security.CurrentUserProvider;
 import com.omkar.uni.verse.services.EventManagementService;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -40,6 +40,7 @@ public class EventManagementServiceImpl implements EventManagementService {
     private final EventMapper eventMapper;
     private final EventVenueRepository eventVenueRepository;
     private final EventRepository eventRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @PreAuthorize("hasAuthority('ROLE_CLUB_LEADER')")
@@ -52,9 +53,7 @@ public class EventManagementServiceImpl implements EventManagementService {
             throw new IllegalArgumentException("Paid events must have a base price");
         }
 
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         Club club = clubRepository.findBySlugWithLeaders(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
@@ -193,9 +192,7 @@ public class EventManagementServiceImpl implements EventManagementService {
     }
 
     private void isClubLeader(String slug) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         Club club = clubRepository.findBySlugWithLeaders(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
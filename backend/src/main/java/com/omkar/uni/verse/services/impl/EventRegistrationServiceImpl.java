@@ -1,5 +1,6 @@
 package com.omkar.uni.verse.services.impl;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.MessageResponse;
 import com.omkar.uni.verse.domain.dto.events.CancelEventRegistrationRequest;
 import com.omkar.uni.verse.domain.dto.events.EventRegistrationResponse;
@@ -14,7 +15,9 @@ import com.omkar.uni.verse.repository.ClubRepository;
 import com.omkar.uni.verse.repository.EventRegistrationRepository;
 import com.omkar.uni.verse.repository.EventRepository;
 import com.omkar.uni.verse.repository.UserRepository;
+import com.omkar.uni.verse.security.CurrentUserProvider;
 import com.omkar.uni.verse.services.EventRegistrationService;
+import com.omkar.uni.verse.utils.CursorPagination;
 import com.omkar.uni.verse.utils.PaginationValidator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -23,9 +26,9 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,14 +44,13 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     private final EventRegistrationRepository eventRegistrationRepository;
     private final ClubRepository clubRepository;
     private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     @CacheEvict(cacheNames = {"eventRegistrations", "userEventRegistrations"}, allEntries = true)
     public EventRegistrationResponse createEventRegistration(String slug, UUID eventId) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         Event event = eventRepository.findByIdAndStatus(eventId, EventStatus.PUBLISHED)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found"));
@@ -82,41 +84,40 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
             key = "'club=' + #slug + ':eventId=' + #eventId + ':status=' + (#registrationStatus != null ? #registrationStatus : 'PENDING') + ':page=' + #offset + ':size=' + #pageSize"
     )
     public Page<EventRegistrationSummary> getClubEventRegistrations(String slug, UUID eventId, EventRegistrationStatus registrationStatus, int offset, int pageSize) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
-
-        Club club = clubRepository.findBySlugWithLeadersAndMembers(slug)
-                .orElseThrow(() -> new EntityNotFoundException("Club not found"));
-
-        if (club.getLeaders().stream().noneMatch(clubLeader -> clubLeader.getUser().equals(currentUser)) &&
-                club.getMembers().stream().noneMatch(clubMember -> clubMember.getUser().equals(currentUser))) {
-            log.warn("Access denied: User {} attempted to get club events for club '{}' (slug: {}) but is not a leader/member",
-                    currentUser.getEmail(), club.getName(), slug);
-            throw new AccessDeniedException("You are not authorized to perform this action");
-        }
-
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EntityNotFoundException("Event not found"));
-
-        if (!event.getClub().getSlug().equals(slug)) {
-            throw new AccessDeniedException("Event does not belong to this club");
-        }
+        Event event = findClubEventForMember(slug, eventId);
 
         registrationStatus = registrationStatus != null ? registrationStatus : EventRegistrationStatus.PENDING;
 
         log.info("Fetching registrations for event {} with status {} for club '{}' (slug: {})",
-                eventId, registrationStatus, club.getName(), slug);
+                eventId, registrationStatus, event.getClub().getName(), slug);
 
         PageRequest pageRequest = PaginationValidator.createValidatedPageRequest(offset, pageSize);
 
         return eventRegistrationRepository.findByEventAndStatus(event, registrationStatus, pageRequest)
-                .map(eventRegistration -> EventRegistrationSummary.builder()
-                        .user(mapUserToBasicDTO(eventRegistration.getUser()))
-                        .userEmail(eventRegistration.getUser().getEmail())
-                        .registeredAt(eventRegistration.getRegisteredAt())
-                        .registrationStatus(eventRegistration.getStatus())
-                        .build());
+                .map(this::toRegistrationSummary);
+    }
+
+    @Override
+    @PreAuthorize("hasAnyAuthority('ROLE_CLUB_MEMBER','ROLE_CLUB_LEADER')")
+    @Transactional(readOnly = true)
+    public CursorResponse<EventRegistrationSummary> getClubEventRegistrationsByCursor(String slug, UUID eventId, EventRegistrationStatus registrationStatus, String cursor, int pageSize) {
+        Event event = findClubEventForMember(slug, eventId);
+
+        registrationStatus = registrationStatus != null ? registrationStatus : EventRegistrationStatus.PENDING;
+
+        log.info("Fetching registrations by cursor for event {} with status {} for club '{}' (slug: {})",
+                eventId, registrationStatus, event.getClub().getName(), slug);
+
+        return CursorPagination.toResponse(
+                eventRegistrationRepository.findByEventAndStatus(
+                        event, registrationStatus,
+                        CursorPagination.position(cursor, "registeredAt"),
+                        CursorPagination.sort("registeredAt", Sort.Direction.ASC),
+                        CursorPagination.limit(pageSize)
+                ),
+                "registeredAt",
+                this::toRegistrationSummary
+        );
     }
 
     @Override
@@ -126,9 +127,7 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
             
     )
     public Page<EventRegistrationSummary> getUserEventRegistrations(EventRegistrationStatus status, int offset, int pageSize) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         log.info("Fetching event registrations for user {} with status filter: {}",
                 currentUser.getEmail(), status != null ? status : "ALL");
@@ -152,9 +151,7 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     @Transactional(rollbackFor = Exception.class)
     @CacheEvict(cacheNames = {"eventRegistrations", "userEventRegistrations"}, allEntries = true)
     public EventRegistrationResponse approveEventRegistration(String slug, UUID eventId, UUID userId) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         Club club = clubRepository.findBySlugWithLeadersAndMembers(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
@@ -197,9 +194,7 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     @Transactional(rollbackFor = Exception.class)
     @CacheEvict(cacheNames = {"eventRegistrations", "userEventRegistrations"}, allEntries = true)
     public EventRegistrationResponse rejectEventRegistration(String slug, UUID eventId, UUID userId, RejectEventRegistrationRequest rejectEventRegistrationRequest) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         Club club = clubRepository.findBySlugWithLeadersAndMembers(slug)
                 .orElseThrow(() -> new EntityNotFoundException("Club not found"));
@@ -245,9 +240,7 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     @Transactional(rollbackFor = Exception.class)
     @CacheEvict(cacheNames = "userEventRegistrations", allEntries = true)
     public MessageResponse cancelEventRegistration(String slug, UUID eventId, CancelEventRegistrationRequest cancelEventRegistrationRequest) {
-        User currentUser = (User) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
+        User currentUser = currentUserProvider.getCurrentUser();
 
         Event event = eventRepository.findByIdAndStatus(eventId, EventStatus.PUBLISHED)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found or not published"));
@@ -270,6 +263,40 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
         return new MessageResponse("Event registration cancelled successfully");
     }
 
+    /**
+     * Loads the event after checking that it belongs to the club and the current user leads or is a member of it
+     */
+    private Event findClubEventForMember(String slug, UUID eventId) {
+        User currentUser = currentUserProvider.getCurrentUser();
+
+        Club club = clubRepository.findBySlugWithLeadersAndMembers(slug)
+                .orElseThrow(() -> new EntityNotFoundException("Club not found"));
+
+        if (club.getLeaders().stream().noneMatch(clubLeader -> clubLeader.getUser().equals(currentUser)) &&
+                club.getMembers().stream().noneMatch(clubMember -> clubMember.getUser().equals(currentUser))) {
+            log.warn("Access denied: User {} attempted to get club events for club '{}' (slug: {}) but is not a leader/member",
+                    currentUser.getEmail(), club.getName(), slug);
+            throw new AccessDeniedException("You are not authorized to perform this action");
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EntityNotFoundException("Event not found"));
+
+        if (!event.getClub().getSlug().equals(slug)) {
+            throw new AccessDeniedException("Event does not belong to this club");
+        }
+        return event;
+    }
+
+    private EventRegistrationSummary toRegistrationSummary(EventRegistration eventRegistration) {
+        return EventRegistrationSummary.builder()
+                .user(mapUserToBasicDTO(eventRegistration.getUser()))
+                .userEmail(eventRegistration.getUser().getEmail())
+                .registeredAt(eventRegistration.getRegisteredAt())
+                .registrationStatus(eventRegistration.getStatus())
+                .build();
+    }
+
     /**
      * Helper method to map User entity to UserBasicDTO
      */
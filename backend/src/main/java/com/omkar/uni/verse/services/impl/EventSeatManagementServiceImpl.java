@@ -8,6 +8,8 @@ import com.omkar.uni.verse.repository.EventRepository;
 import com.omkar.uni.verse.repository.EventSeatsRepository;
 import com.omkar.uni.verse.repository.EventVenueRepository;
 import com.omkar.uni.verse.services.EventSeatManagementService;
+import com.omkar.uni.verse.services.SeatChangeLogService;
+import com.omkar.uni.verse.services.SeatStateEngine;
 import com.omkar.uni.verse.utils.PaginationValidator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +36,8 @@ public class EventSeatManagementServiceImpl implements EventSeatManagementServic
     private final EventRepository eventRepository;
     private final EventSeatsRepository eventSeatsRepository;
     private final SeatMapper seatMapper;
+    private final SeatStateEngine seatStateEngine;
+    private final SeatChangeLogService seatChangeLogService;
 
     @Override
     @PreAuthorize("hasAnyAuthority('ROLE_SUPERADMIN','ROLE_FACULTY')")
@@ -59,7 +63,10 @@ public class EventSeatManagementServiceImpl implements EventSeatManagementServic
         Event event = eventRepository.findByIdAndStatus(eventId, EventStatus.PUBLISHED)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found or not published"));
 
+        // Read the version before the seats so replaying deltas from it can only repeat changes, never miss one
+        long version = seatChangeLogService.getCurrentVersion(eventId);
         List<EventSeats> eventSeats = eventSeatsRepository.findByEventWithSeats(event);
+        seatStateEngine.load(eventId, version, eventSeats);
         List<SeatDTO> seats = eventSeats.stream()
                 .map(seatMapper::toSeatDTO).toList();
 
@@ -81,10 +88,22 @@ public class EventSeatManagementServiceImpl implements EventSeatManagementServic
                         event.getCapacity() - bookedSeatsCount.intValue(),
                         sections,
                         priceByType
-                )
+                ),
+                version
         );
     }
 
+    @Override
+    @CacheEvict(cacheNames = "eventSeats", key = "'id=' + #eventId")
+    public void evictEventSeats(UUID eventId) {
+        // Eviction is applied by the cache proxy (after commit when called inside a transaction)
+    }
+
+    @Override
+    public SeatMapDelta getEventSeatChanges(UUID eventId, long sinceVersion) {
+        return seatChangeLogService.getChangesSince(eventId, sinceVersion);
+    }
+
 //    @Override
 //    @CacheEvict(cacheNames = "eventSeats", allEntries = true)
 //    public SeatLockResponse lockSeats(UUID eventId, List<Long> seatIds) {
@@ -1,60 +1,74 @@
 package com.omkar.uni.verse.services.impl;
 
+import com.omkar.uni.verse.domain.dto.CursorResponse;
 import com.omkar.uni.verse.domain.dto.events.EventResponse;
-import com.omkar.uni.verse.domain.entities.clubs.Club;
+import com.omkar.uni.verse.domain.dto.events.EventSearchCriteria;
 import com.omkar.uni.verse.domain.entities.events.Event;
-import com.omkar.uni.verse.domain.entities.events.EventCategory;
 import com.omkar.uni.verse.domain.entities.events.EventRegistrationStatus;
 import com.omkar.uni.verse.domain.entities.events.EventStatus;
 import com.omkar.uni.verse.domain.entities.user.User;
 import com.omkar.uni.verse.mappers.EventMapper;
-import com.omkar.uni.verse.repository.ClubRepository;
 import com.omkar.uni.verse.repository.EventRegistrationRepository;
 import com.omkar.uni.verse.repository.EventRepository;
+import com.omkar.uni.verse.repository.specifications.EventSpecifications;
+import com.omkar.uni.verse.security.CurrentUserProvider;
 import com.omkar.uni.verse.services.EventService;
+import com.omkar.uni.verse.utils.CursorPagination;
 import com.omkar.uni.verse.utils.PaginationValidator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EventServiceImpl implements EventService {
-    private final ClubRepository clubRepository;
     private final EventMapper eventMapper;
     private final EventRepository eventRepository;
     private final EventRegistrationRepository eventRegistrationRepository;
+    private final CurrentUserProvider currentUserProvider;
 
 
     @Override
     @Transactional(readOnly = true)
     @Cacheable(
             cacheNames = "events",
-            key = "'club=' + #clubId + ',cat=' + #category + ',page=' + #page + ',time=' + #dateTime.withMinute(0).withSecond(0).withNano(0)"
+            key = "#criteria.cacheKey() + ',page=' + #page + ',size=' + #size"
     )
-    public Page<EventResponse> getAllEvents(
-            UUID clubId, EventCategory category, LocalDateTime dateTime, int page, int size
-    ) {
-        Club club = null;
-        if (clubId != null) {
-            club = clubRepository.findById(clubId).orElse(null);
-        }
+    public Page<EventResponse> getAllEvents(EventSearchCriteria criteria, int page, int size) {
+        PageRequest pageRequest = PaginationValidator.createValidatedPageRequest(
+                page, size, CursorPagination.sort("startTime", Sort.Direction.ASC));
 
-        PageRequest pageRequest = PaginationValidator.createValidatedPageRequest(page, size);
+        return eventRepository.findAll(EventSpecifications.search(criteria), pageRequest)
+                .map(eventMapper::toEventResponse);
+    }
 
-        return eventRepository.findAllByClubAndCategoryAndEndTimeIsAfterAndCancelledAtIsNullAndStatus(
-                club, category, dateTime, EventStatus.PUBLISHED, pageRequest
-        ).map(eventMapper::toEventResponse);
+    // Not cached: every cursor is a distinct key, and a keyset window is cheap to read at any depth
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<EventResponse> getAllEventsByCursor(EventSearchCriteria criteria, String cursor, int size) {
+        ScrollPosition position = CursorPagination.position(cursor, "startTime");
+        Sort sort = CursorPagination.sort("startTime", Sort.Direction.ASC);
+        Limit limit = CursorPagination.limit(size);
+
+        Window<Event> events = eventRepository.findBy(EventSpecifications.search(criteria), query -> query
+                .sortBy(sort)
+                .limit(limit.max())
+                .scroll(position));
+
+        return CursorPagination.toResponse(events, "startTime", eventMapper::toEventResponse);
     }
 
     @Override
@@ -67,15 +81,12 @@ public class EventServiceImpl implements EventService {
         // Check if user is authenticated and registered for this event
         boolean isRegistered = false;
         try {
-            Object principal = SecurityContextHolder.getContext()
-                    .getAuthentication()
-                    .getPrincipal();
-
-            // Only check registration if user is authenticated (not anonymous)
-            if (principal instanceof User currentUser) {
+            // Only check registration if user is authenticated (not anonymous); the id is enough for the query
+            Optional<User> currentUser = currentUserProvider.findCurrentUserReference();
+            if (currentUser.isPresent()) {
                 isRegistered = eventRegistrationRepository.existsByEventAndUserAndStatus(
                         event,
-                        currentUser,
+                        currentUser.get(),
                         EventRegistrationStatus.APPROVED
                 );
             }
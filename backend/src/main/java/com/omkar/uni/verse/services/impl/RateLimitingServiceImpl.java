@@ -1,52 +1,81 @@
 package com.omkar.uni.verse.services.impl;
 
 import com.omkar.uni.verse.services.RateLimitingService;
+import com.omkar.uni.verse.utils.LocalTtlCache;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.distributed.proxy.ProxyManager;
-import lombok.RequiredArgsConstructor;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.function.Supplier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Redis-backed rate limiting buckets.
+ * <p>
+ * Request buckets are kept per client on this node and built with Bucket4j's delaying optimization:
+ * consumption is served from the local copy and written back to Redis once
+ * {@code rate-limiting.local.max-unsynced-tokens} tokens were taken or
+ * {@code rate-limiting.local.max-unsynced-ms} passed, so most requests make no Redis round trip.
+ * Across N nodes a client can overshoot its limit by at most N times the unsynced token allowance.
+ * Email buckets guard outgoing mail and stay exact.
+ */
 @Service
-@RequiredArgsConstructor
 public class RateLimitingServiceImpl implements RateLimitingService {
 
+    private static final BucketConfiguration EMAIL_CONFIGURATION = BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder()
+                    .capacity(5)
+                    .refillGreedy(5, Duration.ofHours(1)) // 5 Emails per hour per user
+                    .build())
+            .build();
+
     private final ProxyManager<String> proxyManager;
+    private final boolean localTierEnabled;
+    private final DelayParameters delayParameters;
+    // Configurations are immutable, so one instance per limit is shared by every bucket using it
+    private final Map<Integer, BucketConfiguration> configurationsByLimit = new ConcurrentHashMap<>();
+    private final LocalTtlCache<String, Bucket> localBuckets;
+
+    public RateLimitingServiceImpl(ProxyManager<String> proxyManager,
+                                   @Value("${rate-limiting.local.enabled:true}") boolean localTierEnabled,
+                                   @Value("${rate-limiting.local.max-unsynced-tokens:10}") long maxUnsyncedTokens,
+                                   @Value("${rate-limiting.local.max-unsynced-ms:500}") long maxUnsyncedMillis,
+                                   @Value("${rate-limiting.local.ttl-seconds:300}") long localTtlSeconds,
+                                   @Value("${rate-limiting.local.max-size:50000}") int localMaxSize) {
+        this.proxyManager = proxyManager;
+        this.localTierEnabled = localTierEnabled;
+        this.delayParameters = new DelayParameters(maxUnsyncedTokens, Duration.ofMillis(maxUnsyncedMillis));
+        this.localBuckets = new LocalTtlCache<>(Duration.ofSeconds(localTtlSeconds), localMaxSize);
+    }
 
     @Override
     public Bucket resolveBucketWithGreedyRefill(String key, int requestsPerMinute) {
-        Supplier<BucketConfiguration> configurationSupplier = () -> {
-            Bandwidth limit = Bandwidth.builder()
-                    .capacity(requestsPerMinute)
-                    .refillGreedy(requestsPerMinute, Duration.ofMinutes(1))
-                    .build();
-
-            return BucketConfiguration.builder()
-                    .addLimit(limit)
-                    .build();
-        };
-
-        return proxyManager.builder().build(key, configurationSupplier);
+        BucketConfiguration configuration = configurationsByLimit.computeIfAbsent(requestsPerMinute, limit ->
+                BucketConfiguration.builder()
+                        .addLimit(Bandwidth.builder()
+                                .capacity(limit)
+                                .refillGreedy(limit, Duration.ofMinutes(1))
+                                .build())
+                        .build());
+
+        if (!localTierEnabled) {
+            return proxyManager.builder().build(key, configuration);
+        }
+
+        // Evicted buckets drop at most their unsynced tokens, which errs towards allowing requests
+        return localBuckets.get(key + "#" + requestsPerMinute, cacheKey -> proxyManager.builder()
+                .withOptimization(Optimizations.delaying(delayParameters))
+                .build(key, configuration));
     }
 
     @Override
     public Bucket resolveEmailBucket(String email) {
-        String bucketKey = "email:" + email;
-        Supplier<BucketConfiguration> configurationSupplier = () -> {
-            Bandwidth limit = Bandwidth.builder()
-                    .capacity(5)
-                    .refillGreedy(5, Duration.ofHours(1)) // 5 Emails per hour per user
-                    .build();
-
-            return BucketConfiguration.builder()
-                    .addLimit(limit)
-                    .build();
-        };
-
-        return proxyManager.builder().build(bucketKey, configurationSupplier);
+        return proxyManager.builder().build("email:" + email, EMAIL_CONFIGURATION);
     }
 }
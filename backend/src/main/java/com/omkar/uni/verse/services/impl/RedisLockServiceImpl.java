@@ -8,6 +8,7 @@ import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Service
@@ -18,6 +19,8 @@ public class RedisLockServiceImpl implements RedisLockService {
     private final StringRedisTemplate redisTemplate;
     private final RedisScript<Long> unlockScript;
     private final RedisScript<Long> extendLockScript;
+    private final RedisScript<Long> lockAllScript;
+    private final RedisScript<Long> unlockAllScript;
 
     private static final String LOCK_PREFIX = "lock:";
 
@@ -67,6 +70,60 @@ public class RedisLockServiceImpl implements RedisLockService {
         }
     }
 
+    @Override
+    public boolean tryLockAll(List<String> resources, String lockValue, long ttl, TimeUnit unit) {
+        if (resources.isEmpty()) {
+            return true;
+        }
+
+        List<String> keys = resources.stream().map(resource -> LOCK_PREFIX + resource).toList();
+
+        try {
+            Long result = redisTemplate.execute(
+                    lockAllScript,
+                    keys,
+                    lockValue,
+                    String.valueOf(unit.toMillis(ttl))
+            );
+
+            if (Long.valueOf(1L).equals(result)) {
+                log.debug("Locks acquired: {} with value: {}", keys, lockValue);
+                return true;
+            }
+
+            log.debug("One or more locks already held : {}", keys);
+            return false;
+        } catch (Exception e) {
+            log.debug("Failed to acquire locks for resources {}", resources, e);
+            return false;
+        }
+    }
+
+    @Override
+    public int unlockAll(List<String> resources, String lockValue) {
+        if (resources.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = resources.stream().map(resource -> LOCK_PREFIX + resource).toList();
+
+        try {
+            Long result = redisTemplate.execute(unlockAllScript, keys, lockValue);
+
+            int released = result != null ? result.intValue() : 0;
+            if (released == keys.size()) {
+                log.debug("Locks released: {}", keys);
+            } else {
+                log.warn("Released {} of {} locks (others not owned or expired): {}", released, keys.size(), keys);
+            }
+
+            return released;
+        } catch (Exception e) {
+            log.error("Failed to release locks for resources {}", resources, e);
+            return 0;
+        }
+    }
+
     @Override
     public boolean extendLock(String resource, String lockValue, long additionalTtl, TimeUnit unit) {
         String key = LOCK_PREFIX + resource;
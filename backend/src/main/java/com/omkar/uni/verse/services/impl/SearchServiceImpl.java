@@ -0,0 +1,112 @@
+package com.omkar.uni.verse.services.impl;
+
+import com.omkar.uni.verse.domain.dto.clubs.ClubDTO;
+import com.omkar.uni.verse.domain.dto.events.EventResponse;
+import com.omkar.uni.verse.domain.dto.search.SearchSuggestions;
+import com.omkar.uni.verse.mappers.ClubMapper;
+import com.omkar.uni.verse.mappers.EventMapper;
+import com.omkar.uni.verse.repository.ClubRepository;
+import com.omkar.uni.verse.repository.EventRepository;
+import com.omkar.uni.verse.services.SearchService;
+import com.omkar.uni.verse.utils.PaginationValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Full-text search over events and clubs, backed by the generated {@code search_vector} columns and
+ * trigram indexes from {@link com.omkar.uni.verse.config.SearchSchemaConfig}.
+ */
+@Service
+@Slf4j
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final EventRepository eventRepository;
+    private final ClubRepository clubRepository;
+    private final EventMapper eventMapper;
+    private final ClubMapper clubMapper;
+    private final int autocompleteLimit;
+
+    public SearchServiceImpl(EventRepository eventRepository,
+                             ClubRepository clubRepository,
+                             EventMapper eventMapper,
+                             ClubMapper clubMapper,
+                             @Value("${search.autocomplete.limit:8}") int autocompleteLimit) {
+        this.eventRepository = eventRepository;
+        this.clubRepository = clubRepository;
+        this.eventMapper = eventMapper;
+        this.clubMapper = clubMapper;
+        this.autocompleteLimit = autocompleteLimit;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventResponse> searchEvents(String query, int offset, int pageSize) {
+        String normalized = validateQuery(query);
+        PaginationValidator.validatePaginationParams(offset, pageSize);
+        int limit = PaginationValidator.validateAndLimitPageSize(pageSize);
+
+        log.debug("Searching events for '{}' - page: {}, size: {}", normalized, offset, limit);
+        return eventRepository.search(normalized, LocalDateTime.now(), limit, offset * limit).stream()
+                .map(eventMapper::toEventResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClubDTO> searchClubs(String query, int offset, int pageSize) {
+        String normalized = validateQuery(query);
+        PaginationValidator.validatePaginationParams(offset, pageSize);
+        int limit = PaginationValidator.validateAndLimitPageSize(pageSize);
+
+        log.debug("Searching clubs for '{}' - page: {}, size: {}", normalized, offset, limit);
+        return clubRepository.search(normalized, limit, offset * limit).stream()
+                .map(clubMapper::toClubDTO)
+                .toList();
+    }
+
+    // Keyed by the normalized prefix, so "Tech", "tech " and "TECH" share one entry
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "searchSuggestions", key = "#prefix.strip().toLowerCase()")
+    public SearchSuggestions autocomplete(String prefix) {
+        String normalized = prefix.strip().toLowerCase();
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            return new SearchSuggestions();
+        }
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search prefix is too long");
+        }
+
+        String pattern = escapeLike(normalized);
+        return new SearchSuggestions(
+                new ArrayList<>(eventRepository.findTitleSuggestions(pattern, LocalDateTime.now(), autocompleteLimit)),
+                new ArrayList<>(clubRepository.findNameSuggestions(pattern, autocompleteLimit))
+        );
+    }
+
+    private static String validateQuery(String query) {
+        String normalized = query == null ? "" : query.strip();
+        if (normalized.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query is too long");
+        }
+        return normalized;
+    }
+
+    // The prefix is matched literally; Postgres uses a backslash as the default LIKE escape
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,29 +1,41 @@
 package com.omkar.uni.verse.services.impl;
 
 import com.omkar.uni.verse.domain.dto.events.BookingSeatDTO;
+import com.omkar.uni.verse.domain.dto.events.SeatStatusChange;
 import com.omkar.uni.verse.domain.dto.events.bookings.BatchLockResult;
 import com.omkar.uni.verse.domain.dto.events.bookings.LockResult;
+import com.omkar.uni.verse.domain.dto.events.bookings.SeatEventRef;
 import com.omkar.uni.verse.domain.entities.events.EventSeats;
 import com.omkar.uni.verse.domain.entities.events.SeatStatus;
 import com.omkar.uni.verse.domain.entities.user.User;
 import com.omkar.uni.verse.repository.EventSeatsRepository;
+import com.omkar.uni.verse.security.CurrentUserProvider;
+import com.omkar.uni.verse.services.EventSeatManagementService;
 import com.omkar.uni.verse.services.RedisLockService;
 import com.omkar.uni.verse.services.SeatBookingService;
+import com.omkar.uni.verse.services.SeatChangeLogService;
+import com.omkar.uni.verse.services.SeatHoldExpiryService;
+import com.omkar.uni.verse.services.SeatStateEngine;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -35,13 +47,40 @@ public class SeatBookingServiceImpl implements SeatBookingService {
     private static final long LOCK_TTL_SECONDS = 30;
     private static final Duration SEAT_HOLD_DURATION = Duration.ofMinutes(5);
     private final EventSeatsRepository eventSeatsRepository;
+    private final SeatStateEngine seatStateEngine;
+    private final SeatChangeLogService seatChangeLogService;
+    private final EventSeatManagementService eventSeatManagementService;
+    private final SeatHoldExpiryService seatHoldExpiryService;
+    private final CurrentUserProvider currentUserProvider;
+
+    /**
+     * When enabled, seat transitions are single compare-and-set UPDATE statements on event_seats
+     * instead of Redis mutex + read + check + write. Suited to single-region deployments where
+     * Postgres row locks are cheaper than the extra Redis round-trips.
+     */
+    @Value("${seats.locking.conditional-update.enabled:false}")
+    private boolean conditionalUpdateLocking;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @CacheEvict(cacheNames = "eventSeats", allEntries = true)
     public LockResult lockSeat(Long seatId) {
+        if (seatStateEngine.isUnavailable(seatId)) {
+            log.debug("Seat: {} rejected from in-memory seat state", seatId);
+            return LockResult.failure("Seat is no longer available");
+        }
+
+        if (conditionalUpdateLocking) {
+            return lockSeatConditionally(seatId);
+        }
+
+        UUID eventId = findEventIdOf(seatId);
+        if (eventId == null) {
+            log.warn("Seat: {} not found", seatId);
+            return LockResult.failure("Seat not found");
+        }
+
         String lockToken = UUID.randomUUID().toString();
-        String resource = "seat:" + seatId;
+        String resource = seatResource(eventId, seatId);
 
         boolean lockAcquired = redisLockService.tryLock(
                 resource,
@@ -59,6 +98,10 @@ public class SeatBookingServiceImpl implements SeatBookingService {
             EventSeats seat = eventSeatsRepository.findById(seatId)
                     .orElseThrow(() -> new EntityNotFoundException("Seat not found: " + seatId));
 
+            seatStateEngine.loadIfAbsent(eventId,
+                    () -> seatChangeLogService.getCurrentVersion(eventId),
+                    () -> eventSeatsRepository.findByEventWithSeats(seat.getEvent()));
+
             if (seat.getStatus() != SeatStatus.AVAILABLE) {
                 log.warn("Seat: {} not available. Current status: {}", seatId, seat.getStatus());
                 return LockResult.failure("Seat is no longer available");
@@ -69,16 +112,16 @@ public class SeatBookingServiceImpl implements SeatBookingService {
                 return LockResult.failure("Seat is currently held by another user");
             }
 
-            Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            if (!(principal instanceof User currentUser)) {
-                throw new IllegalStateException("Invalid user authentication");
-            }
+            User currentUser = currentUser();
 
             seat.setStatus(SeatStatus.LOCKED);
             seat.setLockedBy(currentUser);
             seat.setLockExpiresAt(LocalDateTime.now().plus(SEAT_HOLD_DURATION));
 
-            eventSeatsRepository.save(seat);
+            eventSeatsRepository.saveAndFlush(seat);
+            seatStateEngine.markLocked(seatId, seat.getLockExpiresAt());
+            seatHoldExpiryService.registerHolds(List.of(seatId), seat.getLockExpiresAt());
+            publishTransition(eventId, List.of(change(seat)));
             log.info("Seat {} locked by user: {} until {}", seatId, currentUser.getEmail(), seat.getLockExpiresAt());
 
             return LockResult.success(seat.getLockExpiresAt());
@@ -92,14 +135,17 @@ public class SeatBookingServiceImpl implements SeatBookingService {
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @CacheEvict(
-            cacheNames = "eventSeats",
-            key = "#result != null && #result.booking != null ? 'id=' + #result.booking.eventId : 'empty'",
-            condition = "#result != null"
-    )
     public BookingSeatDTO confirmSeatBooking(Long seatId) {
+        if (seatStateEngine.isBooked(seatId)) {
+            throw new IllegalStateException("Seat is not in locked state");
+        }
+
+        if (conditionalUpdateLocking) {
+            return confirmSeatBookingConditionally(seatId);
+        }
+
         String lockToken = UUID.randomUUID().toString();
-        String resource = "seat:" + seatId;
+        String resource = seatResource(eventIdOf(seatId), seatId);
 
         if (!redisLockService.tryLock(resource, lockToken, LOCK_TTL_SECONDS, TimeUnit.SECONDS)) {
             throw new IllegalStateException("Could not acquire lock for seat confirmation");
@@ -113,10 +159,7 @@ public class SeatBookingServiceImpl implements SeatBookingService {
                 throw new IllegalStateException("Seat is not in locked state");
             }
 
-            Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            if (!(principal instanceof User currentUser)) {
-                throw new IllegalStateException("Invalid user authentication");
-            }
+            User currentUser = currentUser();
 
             if (seat.getLockedBy() == null || !seat.getLockedBy().equals(currentUser)) {
                 throw new IllegalStateException("Seat is locked by a different user");
@@ -129,7 +172,10 @@ public class SeatBookingServiceImpl implements SeatBookingService {
             seat.setStatus(SeatStatus.BOOKED);
             seat.setLockExpiresAt(null);
 
-            eventSeatsRepository.save(seat);
+            eventSeatsRepository.saveAndFlush(seat);
+            seatStateEngine.markBooked(seatId);
+            seatHoldExpiryService.cancelHold(seatId);
+            publishTransition(seat.getEvent().getId(), List.of(change(seat)));
 
             log.info("Seat {} confirmed for user {}", seatId, currentUser.getId());
         } finally {
@@ -141,10 +187,19 @@ public class SeatBookingServiceImpl implements SeatBookingService {
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @CacheEvict(cacheNames = "eventSeats", allEntries = true)
     public void releaseLockSeat(Long seatId) {
+        if (seatStateEngine.isBooked(seatId)) {
+            log.debug("Seat: {} already booked, nothing to release", seatId);
+            return;
+        }
+
+        if (conditionalUpdateLocking) {
+            releaseLockSeatConditionally(seatId);
+            return;
+        }
+
         String lockToken = UUID.randomUUID().toString();
-        String resource = "seat:" + seatId;
+        String resource = seatResource(eventIdOf(seatId), seatId);
 
         if (!redisLockService.tryLock(resource, lockToken, LOCK_TTL_SECONDS, TimeUnit.SECONDS)) {
             log.warn("Could not acquire lock to release seat: {}", seatId);
@@ -155,14 +210,17 @@ public class SeatBookingServiceImpl implements SeatBookingService {
             EventSeats seat = eventSeatsRepository.findById(seatId)
                     .orElseThrow(() -> new EntityNotFoundException("Seat not found"));
 
-            UUID userId = ((User) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getId();
+            UUID userId = currentUser().getId();
 
             if (seat.getStatus() == SeatStatus.LOCKED && seat.getLockedBy() != null && seat.getLockedBy().getId().equals(userId)) {
                 seat.setStatus(SeatStatus.AVAILABLE);
                 seat.setLockedBy(null);
                 seat.setLockExpiresAt(null);
 
-                eventSeatsRepository.save(seat);
+                eventSeatsRepository.saveAndFlush(seat);
+                seatStateEngine.markAvailable(seatId);
+                seatHoldExpiryService.cancelHold(seatId);
+                publishTransition(seat.getEvent().getId(), List.of(change(seat)));
 
                 log.info("Seat: {} lock released by user: {}", seatId, userId);
             }
@@ -174,7 +232,6 @@ public class SeatBookingServiceImpl implements SeatBookingService {
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @CacheEvict(cacheNames = "eventSeats", allEntries = true)
     public BatchLockResult lockMultipleSeats(List<Long> eventSeatIds) {
         if (eventSeatIds == null || eventSeatIds.isEmpty()) {
             return BatchLockResult.failure("No seats provided");
@@ -182,30 +239,38 @@ public class SeatBookingServiceImpl implements SeatBookingService {
 
         List<Long> uniqueSeatIds = new ArrayList<>(new LinkedHashSet<>(eventSeatIds));
 
-        List<SeatLockAttempt> attempts = uniqueSeatIds.stream()
-                .map(seatId -> new SeatLockAttempt(
-                        seatId,
-                        UUID.randomUUID().toString(),
-                        "seat:" + seatId
-                )).toList();
-
-        boolean allSeatsLocked = true;
-        for (var attempt : attempts) {
-            attempt.acquired = redisLockService.tryLock(
-                    attempt.resource,
-                    attempt.token,
-                    LOCK_TTL_SECONDS,
-                    TimeUnit.SECONDS
-            );
-
-            if (!attempt.acquired) {
-                allSeatsLocked = false;
-                break;
+        for (Long seatId : uniqueSeatIds) {
+            if (seatStateEngine.isUnavailable(seatId)) {
+                return BatchLockResult.failure("Seat " + seatId + " is not available");
             }
         }
 
-        if (!allSeatsLocked) {
-            releaseAllLocks(attempts);
+        if (conditionalUpdateLocking) {
+            return lockMultipleSeatsConditionally(uniqueSeatIds);
+        }
+
+        Set<UUID> eventIds = trackedEventIdsOf(uniqueSeatIds);
+        if (eventIds == null) {
+            List<SeatEventRef> refs = eventSeatsRepository.findEventRefsByIds(uniqueSeatIds);
+            if (refs.size() != uniqueSeatIds.size()) {
+                return BatchLockResult.failure("Some seats not found");
+            }
+            eventIds = refs.stream().map(SeatEventRef::getEventId).collect(Collectors.toSet());
+        }
+        // The seat mutexes of a group must share one hash slot for the all-or-nothing script
+        if (eventIds.size() != 1) {
+            return BatchLockResult.failure("All seats must belong to the same event");
+        }
+        UUID eventId = eventIds.iterator().next();
+
+        // One token and one round-trip for the whole group: either every seat mutex is taken or none is
+        String lockToken = UUID.randomUUID().toString();
+        List<String> resources = uniqueSeatIds.stream()
+                .map(seatId -> seatResource(eventId, seatId))
+                .toList();
+
+        if (!redisLockService.tryLockAll(resources, lockToken, LOCK_TTL_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Could not acquire locks for seats: {}", uniqueSeatIds);
             return BatchLockResult.failure("One or more seats are currently being booked");
         }
 
@@ -221,10 +286,7 @@ public class SeatBookingServiceImpl implements SeatBookingService {
                 }
             }
 
-            Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            if (!(principal instanceof User currentUser)) {
-                throw new IllegalStateException("Invalid user authentication");
-            }
+            User currentUser = currentUser();
             LocalDateTime lockExpiry = LocalDateTime.now().plus(SEAT_HOLD_DURATION);
 
             for (var seat : seats) {
@@ -233,7 +295,10 @@ public class SeatBookingServiceImpl implements SeatBookingService {
                 seat.setLockExpiresAt(lockExpiry);
             }
 
-            eventSeatsRepository.saveAll(seats);
+            eventSeatsRepository.saveAllAndFlush(seats);
+            seats.forEach(seat -> seatStateEngine.markLocked(seat.getId(), lockExpiry));
+            seatHoldExpiryService.registerHolds(uniqueSeatIds, lockExpiry);
+            publishTransition(eventId, seats.stream().map(SeatBookingServiceImpl::change).toList());
 
             log.info("Locked {} seats for users: {}", seats.size(), currentUser.getId());
 
@@ -242,29 +307,151 @@ public class SeatBookingServiceImpl implements SeatBookingService {
             log.error("Error locking multiple seats", e);
             return BatchLockResult.failure("Error occurred while locking seats");
         } finally {
-            releaseAllLocks(attempts);
+            redisLockService.unlockAll(resources, lockToken);
         }
     }
 
-    private void releaseAllLocks(List<SeatLockAttempt> attempts) {
-        for (var attempt : attempts) {
-            if (attempt.acquired) {
-                redisLockService.unlock(attempt.resource, attempt.token);
-            }
+    private LockResult lockSeatConditionally(Long seatId) {
+        User currentUser = currentUser();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockExpiry = now.plus(SEAT_HOLD_DURATION);
+
+        List<SeatEventRef> locked = compareAndSet(() -> eventSeatsRepository.lockIfAvailable(List.of(seatId), currentUser.getId(), lockExpiry, now));
+        if (locked.isEmpty()) {
+            log.warn("Seat: {} not available (conditional update matched no row)", seatId);
+            return LockResult.failure("Seat is no longer available");
         }
+
+        seatStateEngine.markLocked(seatId, lockExpiry);
+        seatHoldExpiryService.registerHolds(List.of(seatId), lockExpiry);
+        publishTransitions(locked, SeatStatus.LOCKED);
+        log.info("Seat {} locked by user: {} until {}", seatId, currentUser.getEmail(), lockExpiry);
+
+        return LockResult.success(lockExpiry);
     }
 
+    private BookingSeatDTO confirmSeatBookingConditionally(Long seatId) {
+        User currentUser = currentUser();
+
+        List<SeatEventRef> booked = compareAndSet(() -> eventSeatsRepository.bookIfLockedBy(seatId, currentUser.getId(), LocalDateTime.now()));
+        if (booked.isEmpty()) {
+            throw new IllegalStateException("Seat is not locked by you or the lock has expired");
+        }
 
-    private static class SeatLockAttempt {
-        final Long seatId;
-        final String token;
-        final String resource;
-        boolean acquired = false;
+        seatStateEngine.markBooked(seatId);
+        seatHoldExpiryService.cancelHold(seatId);
+        publishTransitions(booked, SeatStatus.BOOKED);
+        log.info("Seat {} confirmed for user {}", seatId, currentUser.getId());
 
-        public SeatLockAttempt(Long seatId, String token, String resource) {
-            this.seatId = seatId;
-            this.token = token;
-            this.resource = resource;
+        return new BookingSeatDTO();
+    }
+
+    private void releaseLockSeatConditionally(Long seatId) {
+        UUID userId = currentUser().getId();
+
+        List<SeatEventRef> released = compareAndSet(() -> eventSeatsRepository.releaseIfLockedBy(seatId, userId, LocalDateTime.now()));
+        if (released.isEmpty()) {
+            return;
+        }
+
+        seatStateEngine.markAvailable(seatId);
+        seatHoldExpiryService.cancelHold(seatId);
+        publishTransitions(released, SeatStatus.AVAILABLE);
+        log.info("Seat: {} lock released by user: {}", seatId, userId);
+    }
+
+    private BatchLockResult lockMultipleSeatsConditionally(List<Long> uniqueSeatIds) {
+        User currentUser = currentUser();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockExpiry = now.plus(SEAT_HOLD_DURATION);
+
+        List<SeatEventRef> locked = compareAndSet(() -> eventSeatsRepository.lockIfAvailable(uniqueSeatIds, currentUser.getId(), lockExpiry, now));
+        if (locked.size() != uniqueSeatIds.size()) {
+            // All or nothing: undo the seats this statement did manage to lock
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.warn("Only {} of {} seats were available for user: {}", locked.size(), uniqueSeatIds.size(), currentUser.getId());
+            return BatchLockResult.failure("One or more seats are not available");
+        }
+
+        locked.forEach(seat -> seatStateEngine.markLocked(seat.getSeatId(), lockExpiry));
+        seatHoldExpiryService.registerHolds(uniqueSeatIds, lockExpiry);
+        publishTransitions(locked, SeatStatus.LOCKED);
+        log.info("Locked {} seats for users: {}", locked.size(), currentUser.getId());
+
+        return BatchLockResult.success(lockExpiry, locked.size());
+    }
+
+    /**
+     * Runs one compare-and-set statement. A deadlock victim or serialization failure lost a race for
+     * the seats just like a non-matching row did, so it is reported the same way (no row updated)
+     * instead of surfacing as a server error. Postgres has already aborted the transaction, so it is
+     * marked for a silent rollback.
+     */
+    private List<SeatEventRef> compareAndSet(Supplier<List<SeatEventRef>> update) {
+        try {
+            return update.get();
+        } catch (ConcurrencyFailureException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.warn("Seat compare-and-set lost a concurrent race: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private UUID eventIdOf(Long seatId) {
+        UUID eventId = findEventIdOf(seatId);
+        if (eventId == null) {
+            throw new EntityNotFoundException("Seat not found: " + seatId);
         }
+        return eventId;
+    }
+
+    // The seat state engine knows the event of every tracked seat; only a miss costs a query
+    private UUID findEventIdOf(Long seatId) {
+        UUID eventId = seatStateEngine.eventIdOf(seatId);
+        return eventId != null ? eventId : eventSeatsRepository.findEventIdById(seatId).orElse(null);
+    }
+
+    // Null unless every seat is tracked
+    private Set<UUID> trackedEventIdsOf(List<Long> seatIds) {
+        Set<UUID> eventIds = new HashSet<>();
+        for (Long seatId : seatIds) {
+            UUID eventId = seatStateEngine.eventIdOf(seatId);
+            if (eventId == null) {
+                return null;
+            }
+            eventIds.add(eventId);
+        }
+        return eventIds;
+    }
+
+    // {eventId} is a Redis Cluster hash tag: every seat mutex of an event lives in the same slot
+    private static String seatResource(UUID eventId, Long seatId) {
+        return "seat:{" + eventId + "}:" + seatId;
+    }
+
+    private User currentUser() {
+        return currentUserProvider.getCurrentUser();
+    }
+
+    private void publishTransitions(List<SeatEventRef> seats, SeatStatus status) {
+        seats.stream()
+                .collect(Collectors.groupingBy(
+                        SeatEventRef::getEventId,
+                        Collectors.mapping(
+                                seat -> new SeatStatusChange(seat.getSeatId(), status, seat.getVersion()),
+                                Collectors.toList()
+                        )
+                ))
+                .forEach(this::publishTransition);
+    }
+
+    // Flushed entities carry the row version their UPDATE wrote
+    private static SeatStatusChange change(EventSeats seat) {
+        return new SeatStatusChange(seat.getId(), seat.getStatus(), seat.getVersion());
+    }
+
+    private void publishTransition(UUID eventId, List<SeatStatusChange> changes) {
+        seatChangeLogService.recordChanges(eventId, changes);
+        eventSeatManagementService.evictEventSeats(eventId);
     }
 }
@@ -0,0 +1,139 @@
+package com.omkar.uni.verse.services.impl;
+
+import com.omkar.uni.verse.domain.dto.events.SeatMapDelta;
+import com.omkar.uni.verse.domain.dto.events.SeatStatusChange;
+import com.omkar.uni.verse.domain.entities.events.SeatStatus;
+import com.omkar.uni.verse.services.SeatChangeLogService;
+import com.omkar.uni.verse.services.SeatStreamService;
+import com.omkar.uni.verse.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis-backed seat map change log. Each event keeps a version counter, a sorted set scoring every
+ * seat by the version of its latest change and a hash of current statuses, so the log is bounded by
+ * the number of seats rather than the number of transitions. Every recorded batch is also published on
+ * {@link SeatStreamService#SEAT_UPDATES_CHANNEL} by the same script.
+ * <p>
+ * Changes are written after their transaction commits, so two commits close together can reach Redis
+ * in reverse order. Every change carries its event_seats row version and the script keeps only the
+ * newest per seat, so the log and the stream never go back to an older status.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatChangeLogServiceImpl implements SeatChangeLogService {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> recordSeatChangesScript;
+
+    private static final String SEAT_MAP_PREFIX = "seatmap:";
+    private static final Duration LOG_TTL = Duration.ofHours(24);
+
+    @Override
+    public void recordChanges(UUID eventId, List<SeatStatusChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(4 + changes.size() * 3);
+        args.add(String.valueOf(LOG_TTL.toSeconds()));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(SeatStreamService.SEAT_UPDATES_CHANNEL);
+        args.add(eventId.toString());
+        for (SeatStatusChange change : changes) {
+            args.add(String.valueOf(change.seatId()));
+            args.add(change.status().name());
+            args.add(String.valueOf(change.seatVersion()));
+        }
+
+        TransactionUtils.afterCommit(() -> {
+            try {
+                Long version = redisTemplate.execute(
+                        recordSeatChangesScript,
+                        List.of(versionKey(eventId), floorKey(eventId), changesKey(eventId), statusKey(eventId)),
+                        args.toArray()
+                );
+                log.debug("Recorded {} seat changes for event {} at version {}", changes.size(), eventId, version);
+            } catch (Exception e) {
+                // Clients fall back to a full resync once the version gap is detected
+                log.error("Failed to record seat changes for event {}", eventId, e);
+            }
+        });
+    }
+
+    @Override
+    public long getCurrentVersion(UUID eventId) {
+        String version = redisTemplate.opsForValue().get(versionKey(eventId));
+        return version != null ? Long.parseLong(version) : 0L;
+    }
+
+    @Override
+    public SeatMapDelta getChangesSince(UUID eventId, long sinceVersion) {
+        if (sinceVersion < 0) {
+            throw new IllegalArgumentException("sinceVersion cannot be negative");
+        }
+
+        List<String> versionAndFloor = redisTemplate.opsForValue().multiGet(List.of(versionKey(eventId), floorKey(eventId)));
+        long version = versionAndFloor != null && versionAndFloor.get(0) != null ? Long.parseLong(versionAndFloor.get(0)) : 0L;
+        long floor = versionAndFloor != null && versionAndFloor.get(1) != null ? Long.parseLong(versionAndFloor.get(1)) : 0L;
+
+        if (sinceVersion > version || sinceVersion < floor) {
+            return SeatMapDelta.resync(version);
+        }
+        if (sinceVersion == version) {
+            return SeatMapDelta.of(version, List.of());
+        }
+
+        Set<String> seatIds = redisTemplate.opsForZSet()
+                .rangeByScore(changesKey(eventId), sinceVersion + 1, Double.POSITIVE_INFINITY);
+        if (seatIds == null || seatIds.isEmpty()) {
+            return SeatMapDelta.of(version, List.of());
+        }
+
+        List<Object> fields = new ArrayList<>(seatIds);
+        List<Object> statuses = redisTemplate.opsForHash().multiGet(statusKey(eventId), fields);
+
+        List<SeatStatusChange> changes = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            // Stored as "seatVersion:STATUS"
+            String stored = (String) statuses.get(i);
+            if (stored != null) {
+                int separator = stored.indexOf(':');
+                changes.add(new SeatStatusChange(
+                        Long.valueOf((String) fields.get(i)),
+                        SeatStatus.valueOf(stored.substring(separator + 1)),
+                        Long.parseLong(stored.substring(0, separator))
+                ));
+            }
+        }
+
+        return SeatMapDelta.of(version, changes);
+    }
+
+    // {eventId} is a Redis Cluster hash tag: the script and MGET touch several keys of one event
+    private static String versionKey(UUID eventId) {
+        return SEAT_MAP_PREFIX + "{" + eventId + "}:version";
+    }
+
+    private static String floorKey(UUID eventId) {
+        return SEAT_MAP_PREFIX + "{" + eventId + "}:floor";
+    }
+
+    private static String changesKey(UUID eventId) {
+        return SEAT_MAP_PREFIX + "{" + eventId + "}:changes";
+    }
+
+    private static String statusKey(UUID eventId) {
+        return SEAT_MAP_PREFIX + "{" + eventId + "}:status";
+    }
+}
@@ -0,0 +1,88 @@
+package com.omkar.uni.verse.services.impl;
+
+import com.omkar.uni.verse.services.SeatHoldExpiryService;
+import com.omkar.uni.verse.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Cluster-wide seat hold expiry index: one Redis sorted set scoring each held seat by its
+ * {@code lockExpiresAt} in epoch millis. Due holds are claimed atomically, so expiry work is
+ * O(expiring seats) instead of a range scan over event_seats.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatHoldExpiryServiceImpl implements SeatHoldExpiryService {
+
+    private static final String HOLDS_KEY = "seatholds:expiry";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<List> claimDueHoldsScript;
+
+    @Override
+    public void registerHolds(Collection<Long> seatIds, LocalDateTime lockExpiresAt) {
+        if (seatIds.isEmpty()) {
+            return;
+        }
+
+        double score = toEpochMillis(lockExpiresAt);
+        Set<ZSetOperations.TypedTuple<String>> holds = seatIds.stream()
+                .map(seatId -> ZSetOperations.TypedTuple.of(String.valueOf(seatId), score))
+                .collect(Collectors.toSet());
+
+        TransactionUtils.afterCommit(() -> {
+            try {
+                redisTemplate.opsForZSet().add(HOLDS_KEY, holds);
+            } catch (Exception e) {
+                // The periodic sweep in SeatLockCleanupScheduler still releases these holds
+                log.error("Failed to register seat holds {}", seatIds, e);
+            }
+        });
+    }
+
+    @Override
+    public void cancelHold(Long seatId) {
+        TransactionUtils.afterCommit(() -> {
+            try {
+                redisTemplate.opsForZSet().remove(HOLDS_KEY, String.valueOf(seatId));
+            } catch (Exception e) {
+                log.warn("Failed to cancel seat hold {}: {}", seatId, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> claimDueHolds(LocalDateTime now, int limit) {
+        // Scores are truncated to millis while lock_expires_at keeps micros; claiming one milli early
+        // guarantees every claimed hold also satisfies lock_expires_at <= now in the release query
+        List<String> due = redisTemplate.execute(
+                claimDueHoldsScript,
+                Collections.singletonList(HOLDS_KEY),
+                String.valueOf(toEpochMillis(now) - 1),
+                String.valueOf(limit)
+        );
+
+        if (due == null || due.isEmpty()) {
+            return List.of();
+        }
+        return due.stream().map(Long::valueOf).toList();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,165 @@
+package com.omkar.uni.verse.services.impl;
+
+import com.omkar.uni.verse.domain.dto.events.SeatMapDelta;
+import com.omkar.uni.verse.domain.dto.events.SeatStatusChange;
+import com.omkar.uni.verse.domain.entities.events.SeatStatus;
+import com.omkar.uni.verse.services.SeatStateEngine;
+import com.omkar.uni.verse.services.SeatStreamService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes seat status transitions to viewers over Server-Sent Events.
+ * <p>
+ * Transitions from every node arrive through Redis pub/sub on {@link #SEAT_UPDATES_CHANNEL}; they are
+ * coalesced per event (latest status per seat wins) and flushed to the local subscribers as one
+ * {@link SeatMapDelta} frame per flush interval. Every transition is also handed to the
+ * {@link SeatStateEngine}, which keeps this node's seat state in step with the other nodes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatStreamServiceImpl implements SeatStreamService, MessageListener {
+
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+    private static final String FRAME_NAME = "seats";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SeatStateEngine seatStateEngine;
+
+    private final Map<UUID, Set<SseEmitter>> emittersByEvent = new ConcurrentHashMap<>();
+    private final Map<UUID, PendingFrame> pendingFrames = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerListener() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(SEAT_UPDATES_CHANNEL));
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID eventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        Set<SseEmitter> emitters = emittersByEvent.computeIfAbsent(eventId, id -> ConcurrentHashMap.newKeySet());
+        emitters.add(emitter);
+
+        Runnable remove = () -> removeEmitter(eventId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        log.debug("Seat stream opened for event {} ({} local viewers)", eventId, emitters.size());
+        return emitter;
+    }
+
+    // Payload format: eventId|version|seatId=STATUS:seatVersion,seatId=STATUS:seatVersion
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+            UUID eventId = UUID.fromString(parts[0]);
+            long version = Long.parseLong(parts[1]);
+            List<SeatStatusChange> changes = new ArrayList<>();
+            for (String change : parts[2].split(",")) {
+                int separator = change.indexOf('=');
+                int versionSeparator = change.lastIndexOf(':');
+                changes.add(new SeatStatusChange(
+                        Long.valueOf(change.substring(0, separator)),
+                        SeatStatus.valueOf(change.substring(separator + 1, versionSeparator)),
+                        Long.parseLong(change.substring(versionSeparator + 1))
+                ));
+            }
+
+            seatStateEngine.apply(eventId, version, changes);
+            if (!emittersByEvent.containsKey(eventId)) {
+                return;
+            }
+
+            // compute() serializes merges with the flush's remove(), so no change can slip between them
+            pendingFrames.compute(eventId, (id, frame) -> {
+                PendingFrame pending = frame != null ? frame : new PendingFrame();
+                pending.version = Math.max(pending.version, version);
+                for (SeatStatusChange change : changes) {
+                    pending.changes.merge(change.seatId(), change,
+                            (current, next) -> next.seatVersion() > current.seatVersion() ? next : current);
+                }
+                return pending;
+            });
+        } catch (Exception e) {
+            log.warn("Ignoring malformed seat update message: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${seats.stream.flush-interval-ms:250}")
+    public void flushPendingFrames() {
+        for (UUID eventId : pendingFrames.keySet()) {
+            PendingFrame frame = pendingFrames.remove(eventId);
+            if (frame == null) {
+                continue;
+            }
+
+            SeatMapDelta delta = SeatMapDelta.of(frame.version, new ArrayList<>(frame.changes.values()));
+
+            send(eventId, SseEmitter.event()
+                    .name(FRAME_NAME)
+                    .id(String.valueOf(delta.version()))
+                    .data(delta));
+        }
+    }
+
+    // Keeps idle connections open through proxies and routers that drop silent streams
+    @Scheduled(fixedRate = 20000)
+    public void sendHeartbeats() {
+        for (UUID eventId : emittersByEvent.keySet()) {
+            send(eventId, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private void send(UUID eventId, SseEmitter.SseEventBuilder event) {
+        Set<SseEmitter> emitters = emittersByEvent.get(eventId);
+        if (emitters == null) {
+            return;
+        }
+
+        // Build the frame once and share it between all subscribers of the event
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = event.build();
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(frame);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping seat stream subscriber for event {}: {}", eventId, e.getMessage());
+                removeEmitter(eventId, emitter);
+            }
+        }
+    }
+
+    private void removeEmitter(UUID eventId, SseEmitter emitter) {
+        emittersByEvent.computeIfPresent(eventId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private static final class PendingFrame {
+        long version;
+        final Map<Long, SeatStatusChange> changes = new LinkedHashMap<>();
+    }
+}
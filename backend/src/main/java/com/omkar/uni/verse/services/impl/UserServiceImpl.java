@@ -6,6 +6,7 @@ import com.omkar.uni.verse.domain.entities.user.User;
 import com.omkar.uni.verse.mappers.UserMapper;
 import com.omkar.uni.verse.repository.ClubFollowerRepository;
 import com.omkar.uni.verse.repository.UserRepository;
+import com.omkar.uni.verse.security.UserDetailsCache;
 import com.omkar.uni.verse.services.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,7 @@ public class UserServiceImpl implements UserService {
     private final ClubFollowerRepository clubFollowerRepository;
 
     private final UserMapper userMapper;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public User updateUserProfile(UpdateUserProfileRequest updateUserProfileRequest) {
@@ -35,7 +37,9 @@ public class UserServiceImpl implements UserService {
         user.setAvatarUrl(updateUserProfileRequest.getAvatarUrl());
 
         log.info("Updated User profile for user: {}", user.getEmail());
-        return userRepository.save(user);
+        User updatedUser = userRepository.save(user);
+        userDetailsCache.evict(updatedUser);
+        return updatedUser;
     }
 
     @Override
@@ -0,0 +1,85 @@
+package com.omkar.uni.verse.utils;
+
+import com.omkar.uni.verse.domain.dto.CursorResponse;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination over a timestamp column with the id as tie-breaker.
+ * <p>
+ * The next query continues with {@code WHERE (timestamp, id) > (last seen)} instead of an OFFSET, so a
+ * deep window costs the same as the first one and no {@code count(*)} is run. The cursor handed to
+ * clients is the last row's keys, base64url encoded; it is opaque to them and not signed, since it
+ * only selects where a listing they may already read continues.
+ */
+public final class CursorPagination {
+
+    private static final String ID_PROPERTY = "id";
+    private static final char SEPARATOR = '|';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    // Private constructor to prevent instantiation
+    private CursorPagination() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Orders by the timestamp, then the id, both in the given direction
+     */
+    public static Sort sort(String timestampProperty, Sort.Direction direction) {
+        return Sort.by(direction, timestampProperty, ID_PROPERTY);
+    }
+
+    public static Limit limit(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+        return Limit.of(PaginationValidator.validateAndLimitPageSize(pageSize));
+    }
+
+    /**
+     * Returns the position after the row encoded in {@code cursor}, or the start for a missing cursor
+     */
+    public static KeysetScrollPosition position(String cursor, String timestampProperty) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return ScrollPosition.forward(Map.of(
+                    timestampProperty, LocalDateTime.parse(decoded.substring(0, separator)),
+                    ID_PROPERTY, UUID.fromString(decoded.substring(separator + 1))
+            ));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static <T, R> CursorResponse<R> toResponse(Window<T> window, String timestampProperty, Function<T, R> mapper) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return new CursorResponse<>(window.map(mapper).getContent(), null, false);
+        }
+
+        KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        String keys = last.getKeys().get(timestampProperty) + String.valueOf(SEPARATOR) + last.getKeys().get(ID_PROPERTY);
+        String nextCursor = ENCODER.encodeToString(keys.getBytes(StandardCharsets.UTF_8));
+        return new CursorResponse<>(window.map(mapper).getContent(), nextCursor, true);
+    }
+}
@@ -0,0 +1,120 @@
+package com.omkar.uni.verse.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps URL path patterns and HTTP methods to values, matched segment by segment.
+ * <p>
+ * Patterns use the controller syntax: literal segments, {@code {name}} for exactly one segment and a
+ * trailing {@code **} for the rest of the path. Literals win over variables and variables over
+ * {@code **}; a method-specific entry wins over one registered with {@link #ANY_METHOD}. Matching walks
+ * the path in place without splitting it, so a lookup allocates nothing. Build once, then only read.
+ */
+public final class PathTrie<T> {
+
+    public static final String ANY_METHOD = "*";
+
+    private final Node<T> root = new Node<>();
+
+    public PathTrie<T> add(String method, String pattern, T value) {
+        Node<T> node = root;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("**")) {
+                node = node.rest != null ? node.rest : (node.rest = new Node<>());
+                break;
+            }
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                node = node.variable != null ? node.variable : (node.variable = new Node<>());
+            } else {
+                node = node.literal(segment);
+            }
+        }
+        node.values.put(method, value);
+        return this;
+    }
+
+    /**
+     * Returns the value for the best matching pattern, or null
+     *
+     * @param from index in {@code path} where matching starts, e.g. after the context path
+     */
+    public T match(String method, String path, int from) {
+        return match(root, method, path, skipSlashes(path, from));
+    }
+
+    private T match(Node<T> node, String method, String path, int start) {
+        if (start >= path.length()) {
+            T value = node.value(method);
+            if (value != null) {
+                return value;
+            }
+            // "/swagger-ui/**" also covers "/swagger-ui"
+            return node.rest != null ? node.rest.value(method) : null;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int next = skipSlashes(path, end);
+
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == end - start && path.regionMatches(start, literal, 0, literal.length())) {
+                T value = match(node.literalNodes[i], method, path, next);
+                if (value != null) {
+                    return value;
+                }
+                break;
+            }
+        }
+
+        if (node.variable != null) {
+            T value = match(node.variable, method, path, next);
+            if (value != null) {
+                return value;
+            }
+        }
+
+        return node.rest != null ? node.rest.value(method) : null;
+    }
+
+    private static int skipSlashes(String path, int index) {
+        while (index < path.length() && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    private static final class Node<T> {
+        // Parallel arrays: a linear scan with regionMatches needs no substring, unlike a map lookup
+        String[] literals = new String[0];
+        @SuppressWarnings("unchecked")
+        Node<T>[] literalNodes = new Node[0];
+        Node<T> variable;
+        Node<T> rest;
+        final Map<String, T> values = new HashMap<>(4);
+
+        Node<T> literal(String segment) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalNodes[i];
+                }
+            }
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalNodes = Arrays.copyOf(literalNodes, literalNodes.length + 1);
+            literals[literals.length - 1] = segment;
+            return literalNodes[literalNodes.length - 1] = new Node<>();
+        }
+
+        T value(String method) {
+            T value = values.get(method);
+            return value != null ? value : values.get(ANY_METHOD);
+        }
+    }
+}
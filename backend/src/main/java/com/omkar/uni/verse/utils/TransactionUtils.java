@@ -0,0 +1,34 @@
+package com.omkar.uni.verse.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility for deferring side effects (in-memory state, Redis writes, notifications)
+ * until the surrounding transaction has committed.
+ */
+public final class TransactionUtils {
+
+    // Private constructor to prevent instantiation
+    private TransactionUtils() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or immediately when no
+     * transaction synchronization is active.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.omkar.uni.verse.cache;
+
+import com.omkar.uni.verse.domain.dto.clubs.ClubDTO;
+import com.omkar.uni.verse.domain.dto.clubs.ClubSummary;
+import com.omkar.uni.verse.domain.dto.events.EventResponse;
+import com.omkar.uni.verse.domain.dto.events.EventSeatResponse;
+import com.omkar.uni.verse.domain.dto.events.SeatDTO;
+import com.omkar.uni.verse.domain.dto.events.SeatMapMetaData;
+import com.omkar.uni.verse.domain.dto.events.VenueSummary;
+import com.omkar.uni.verse.support.CacheValueSamples;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trips every DTO the compact layout covers through {@link CompactCacheValueSerializer}, once below
+ * and once above the compression threshold, and pins the DTO fields the layout was written for to
+ * {@link CacheValueCodec#SCHEMA_VERSION}.
+ */
+class CompactCacheValueSerializerTest {
+
+    private static final byte BINARY = 0x01;
+    private static final byte DEFLATED_BINARY = 0x02;
+
+    // The fields each covered DTO had when the layout of this schema version was written
+    private static final int LAYOUT_SCHEMA_VERSION = 1;
+    private static final Map<Class<?>, String> LAYOUT_FIELDS = Map.of(
+            EventResponse.class, "id:UUID, title:String, slug:String, description:String, startTime:LocalDateTime, "
+                    + "endTime:LocalDateTime, venue:VenueSummary, type:VenueType, onlineLink:String, capacity:Integer, "
+                    + "registrationMode:EventRegistrationMode, registrationDeadline:LocalDateTime, isPaid:Boolean, "
+                    + "basePrice:BigDecimal, visibility:EventVisibility, status:EventStatus, cancellationReason:String, "
+                    + "bannerUrl:String, thumbnailUrl:String, category:EventCategory, tags:String[], "
+                    + "registrationCount:Integer, attendanceCount:Integer, club:ClubSummary, createdByUser:String, "
+                    + "createdAt:LocalDateTime, publishedAt:LocalDateTime, isRegistered:Boolean",
+            ClubSummary.class, "id:UUID, name:String, slug:String, logoUrl:String",
+            VenueSummary.class, "id:Integer, name:String, location:String, seatLayout:Map",
+            ClubDTO.class, "name:String, slug:String, description:String, clubCategory:ClubCategory, tags:String[], "
+                    + "logoUrl:String, bannerUrl:String, memberCount:Integer, followerCount:Integer, eventCount:Integer",
+            SeatDTO.class, "id:Long, section:String, row:String, number:Integer, type:SeatType, status:SeatStatus, "
+                    + "price:BigDecimal",
+            EventSeatResponse.class, "seats:List, metadata:SeatMapMetaData, version:long",
+            SeatMapMetaData.class, "totalSeats:Integer, availableSeats:Integer, sections:List, priceByType:Map"
+    );
+
+    static Stream<Named<Object>> singleValues() {
+        return Stream.of(
+                Named.of("event", CacheValueSamples.event(1)),
+                Named.of("event without optional fields", EventResponse.builder().build()),
+                Named.of("club", CacheValueSamples.club(1)),
+                Named.of("club without optional fields", new ClubDTO()),
+                Named.of("seat", CacheValueSamples.seat(1)),
+                Named.of("seat without optional fields", SeatDTO.builder().build()),
+                Named.of("venue", CacheValueSamples.venue()),
+                Named.of("venue without optional fields", new VenueSummary()),
+                Named.of("seat map without optional fields", new EventSeatResponse()),
+                Named.of("empty page", new PageImpl<>(List.of(), PageRequest.of(3, 20), 60))
+        );
+    }
+
+    // Large and repetitive enough that deflating pays off
+    static Stream<Named<Object>> largeValues() {
+        return Stream.of(
+                Named.of("seat map", CacheValueSamples.eventSeats(500)),
+                Named.of("event page", CacheValueSamples.eventPage(20)),
+                Named.of("club page", CacheValueSamples.page(20, CacheValueSamples::club)),
+                Named.of("seat page", CacheValueSamples.page(50, CacheValueSamples::seat)),
+                Named.of("venue page", CacheValueSamples.page(50, index -> CacheValueSamples.venue())),
+                Named.of("unpaged page", new PageImpl<>(CacheValueSamples.page(20, CacheValueSamples::event).getContent()))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource({"singleValues", "largeValues"})
+    void roundTripsUncompressed(Object value) {
+        CompactCacheValueSerializer serializer = new CompactCacheValueSerializer(
+                CacheValueSamples.redisJsonSerializer(), Integer.MAX_VALUE);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).as("format marker").isEqualTo(BINARY);
+        assertRoundTrip(serializer.deserialize(bytes), value);
+    }
+
+    @ParameterizedTest
+    @MethodSource("largeValues")
+    void roundTripsCompressed(Object value) {
+        CompactCacheValueSerializer serializer = new CompactCacheValueSerializer(
+                CacheValueSamples.redisJsonSerializer(), 0);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0]).as("format marker").isEqualTo(DEFLATED_BINARY);
+        assertRoundTrip(serializer.deserialize(bytes), value);
+    }
+
+    @Test
+    void layoutMatchesTheCoveredDtos() {
+        LAYOUT_FIELDS.forEach((type, fields) -> assertThat(fields(type))
+                .as("fields of %s. The compact layout is its schema: update CacheValueCodec, bump "
+                        + "CacheValueCodec.SCHEMA_VERSION, then record the new fields and version here", type.getSimpleName())
+                .isEqualTo(fields));
+
+        assertThat(CacheValueCodec.SCHEMA_VERSION)
+                .as("schema version the recorded DTO fields belong to; bump it whenever they change")
+                .isEqualTo(LAYOUT_SCHEMA_VERSION);
+    }
+
+    // The DTOs have no equals, so the decoded value is compared field by field, types included
+    private static void assertRoundTrip(Object decoded, Object original) {
+        assertThat(decoded)
+                .usingRecursiveComparison()
+                .withStrictTypeChecking()
+                .isEqualTo(original);
+    }
+
+    private static String fields(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(CompactCacheValueSerializerTest::describe)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String describe(Field field) {
+        return field.getName() + ":" + field.getType().getSimpleName();
+    }
+}
@@ -0,0 +1,247 @@
+package com.omkar.uni.verse.load;
+
+import com.omkar.uni.verse.domain.dto.events.bookings.BatchLockResult;
+import com.omkar.uni.verse.domain.dto.events.bookings.LockResult;
+import com.omkar.uni.verse.domain.entities.events.EventSeats;
+import com.omkar.uni.verse.domain.entities.events.SeatStatus;
+import com.omkar.uni.verse.domain.entities.user.User;
+import com.omkar.uni.verse.services.impl.SeatBookingServiceImpl;
+import com.omkar.uni.verse.support.SeatBookingFixture;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ticket-drop simulation: thousands of virtual users released at the same instant, each on its own
+ * virtual thread, race for the seats of one event through {@link SeatBookingServiceImpl}, then confirm
+ * or abandon what they got. Runs against the in-process Redis and Postgres stand-ins, once per
+ * locking mode: the Redis seat mutex and the conditional-update compare-and-set.
+ * <p>
+ * Checks that no seat is sold twice and that every BOOKED seat belongs to the one user whose
+ * confirmation succeeded, then prints throughput and latency percentiles per operation.
+ * Sizing and an optional latency gate come from system properties:
+ * {@code -Dload.users=20000 -Dload.seats=1000 -Dload.max-p99-ms=50}.
+ */
+class SeatBookingLoadTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 5000);
+    private static final int SEATS = Integer.getInteger("load.seats", 500);
+    private static final String MAX_P99_MS = System.getProperty("load.max-p99-ms");
+
+    // Most of the crowd goes for the front rows
+    private static final double HOT_SEAT_SHARE = 0.2;
+    private static final double HOT_SEAT_DEMAND = 0.7;
+    private static final double ABANDON_RATE = 0.1;
+    private static final int MAX_GROUP_SIZE = 4;
+    private static final int CONFIRM_ATTEMPTS = 3;
+
+    private SeatBookingFixture fixture;
+    private SeatBookingServiceImpl seatBookingService;
+
+    private final Map<String, Queue<Long>> latenciesByOperation = new ConcurrentHashMap<>();
+    private final Map<Long, Set<UUID>> confirmedHolders = new ConcurrentHashMap<>();
+
+    @ParameterizedTest
+    @EnumSource(LockingMode.class)
+    void ticketDropKeepsSeatsConsistent(LockingMode lockingMode) throws InterruptedException {
+        fixture = SeatBookingFixture.create(SEATS, true, lockingMode.conditionalUpdate);
+        seatBookingService = fixture.seatBookingService();
+
+        CountDownLatch start = new CountDownLatch(1);
+        long startedAt;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < USERS; i++) {
+                User user = SeatBookingFixture.newUser(i);
+                executor.submit(() -> {
+                    start.await();
+                    SeatBookingFixture.authenticate(user);
+                    try {
+                        bookSeats(user);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                    return null;
+                });
+            }
+
+            startedAt = System.nanoTime();
+            start.countDown();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        assertSeatsConsistent();
+        report(lockingMode, elapsed);
+    }
+
+    private void bookSeats(User user) throws InterruptedException {
+        List<Long> seatIds = pickSeats();
+
+        boolean locked;
+        if (seatIds.size() == 1) {
+            LockResult result = timed("lockSeat", () -> seatBookingService.lockSeat(seatIds.getFirst()));
+            locked = result.success();
+        } else {
+            BatchLockResult result = timed("lockMultipleSeats", () -> seatBookingService.lockMultipleSeats(seatIds));
+            locked = result.success();
+        }
+
+        if (!locked) {
+            return;
+        }
+
+        if (ThreadLocalRandom.current().nextDouble() < ABANDON_RATE) {
+            for (Long seatId : seatIds) {
+                timed("releaseLockSeat", () -> {
+                    seatBookingService.releaseLockSeat(seatId);
+                    return null;
+                });
+            }
+            return;
+        }
+
+        for (Long seatId : seatIds) {
+            confirm(user, seatId);
+        }
+    }
+
+    // The seat mutex can be briefly held by a competitor probing the same seat, so retry like a client would
+    private void confirm(User user, Long seatId) throws InterruptedException {
+        for (int attempt = 1; attempt <= CONFIRM_ATTEMPTS; attempt++) {
+            try {
+                timed("confirmSeatBooking", () -> seatBookingService.confirmSeatBooking(seatId));
+                confirmedHolders.computeIfAbsent(seatId, id -> ConcurrentHashMap.newKeySet()).add(user.getId());
+                return;
+            } catch (IllegalStateException e) {
+                if (!e.getMessage().startsWith("Could not acquire lock")) {
+                    return;
+                }
+                TimeUnit.MILLISECONDS.sleep(attempt);
+            }
+        }
+    }
+
+    private List<Long> pickSeats() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int groupSize = 1 + random.nextInt(MAX_GROUP_SIZE);
+        int range = random.nextDouble() < HOT_SEAT_DEMAND ? Math.max(groupSize, (int) (SEATS * HOT_SEAT_SHARE)) : SEATS;
+        long first = 1 + random.nextInt(range - groupSize + 1);
+
+        List<Long> seatIds = new ArrayList<>(groupSize);
+        for (int i = 0; i < groupSize; i++) {
+            seatIds.add(first + i);
+        }
+        return seatIds;
+    }
+
+    private void assertSeatsConsistent() {
+        List<EventSeats> seats = fixture.store().snapshot();
+        long booked = 0;
+
+        for (EventSeats seat : seats) {
+            Set<UUID> holders = confirmedHolders.getOrDefault(seat.getId(), Set.of());
+            assertThat(holders)
+                    .as("users with a successful confirmation for seat %d", seat.getId())
+                    .hasSizeLessThanOrEqualTo(1);
+
+            switch (seat.getStatus()) {
+                case BOOKED -> {
+                    booked++;
+                    assertThat(seat.getLockedBy()).as("holder of booked seat %d", seat.getId()).isNotNull();
+                    assertThat(holders).as("confirmed holder of booked seat %d", seat.getId())
+                            .containsExactly(seat.getLockedBy().getId());
+                }
+                case LOCKED -> {
+                    assertThat(holders).as("confirmations for seat %d that is still only locked", seat.getId()).isEmpty();
+                    assertThat(seat.getLockedBy()).as("holder of locked seat %d", seat.getId()).isNotNull();
+                    assertThat(seat.getLockExpiresAt()).as("hold expiry of locked seat %d", seat.getId()).isNotNull();
+                }
+                case AVAILABLE, BLOCKED -> {
+                    assertThat(holders).as("confirmations for seat %d that was not sold", seat.getId()).isEmpty();
+                    assertThat(seat.getLockedBy()).as("holder of unsold seat %d", seat.getId()).isNull();
+                }
+            }
+        }
+
+        long confirmations = confirmedHolders.values().stream().mapToLong(Set::size).sum();
+        assertThat(booked).as("booked seats vs successful confirmations").isEqualTo(confirmations);
+        assertThat(booked).as("booked seats").isPositive();
+    }
+
+    private void report(LockingMode lockingMode, Duration elapsed) {
+        long totalOperations = latenciesByOperation.values().stream().mapToLong(Queue::size).sum();
+        double seconds = elapsed.toNanos() / 1e9;
+
+        System.out.printf("%nTicket drop (%s): %d users, %d seats, %d operations in %.2fs (%.0f ops/s), %d seats booked%n",
+                lockingMode, USERS, SEATS, totalOperations, seconds, totalOperations / seconds,
+                fixture.store().snapshot().stream().filter(seat -> seat.getStatus() == SeatStatus.BOOKED).count());
+        System.out.printf("%-20s %8s %10s %10s %10s %10s%n", "operation", "count", "p50 ms", "p95 ms", "p99 ms", "max ms");
+
+        latenciesByOperation.forEach((operation, latencies) -> {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("%-20s %8d %10.3f %10.3f %10.3f %10.3f%n",
+                    operation, sorted.length,
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                    millis(percentile(sorted, 99)), millis(sorted[sorted.length - 1]));
+
+            if (MAX_P99_MS != null) {
+                assertThat(millis(percentile(sorted, 99)))
+                        .as("p99 latency of %s in ms", operation)
+                        .isLessThanOrEqualTo(Double.parseDouble(MAX_P99_MS));
+            }
+        });
+    }
+
+    private <T> T timed(String operation, LatencySensitive<T> call) {
+        long started = System.nanoTime();
+        try {
+            return call.run();
+        } finally {
+            latenciesByOperation.computeIfAbsent(operation, op -> new ConcurrentLinkedQueue<>())
+                    .add(System.nanoTime() - started);
+        }
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    enum LockingMode {
+        REDIS_MUTEX(false),
+        CONDITIONAL_UPDATE(true);
+
+        private final boolean conditionalUpdate;
+
+        LockingMode(boolean conditionalUpdate) {
+            this.conditionalUpdate = conditionalUpdate;
+        }
+    }
+
+    @FunctionalInterface
+    private interface LatencySensitive<T> {
+        T run();
+    }
+}
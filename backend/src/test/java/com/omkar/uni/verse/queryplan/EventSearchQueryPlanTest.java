@@ -0,0 +1,127 @@
+package com.omkar.uni.verse.queryplan;
+
+import com.omkar.uni.verse.domain.dto.events.EventSearchCriteria;
+import com.omkar.uni.verse.domain.entities.events.EventCategory;
+import com.omkar.uni.verse.domain.entities.events.EventVisibility;
+import com.omkar.uni.verse.domain.entities.events.VenueType;
+import com.omkar.uni.verse.repository.EventRepository;
+import com.omkar.uni.verse.repository.specifications.EventSpecifications;
+import com.omkar.uni.verse.support.CapturingStatementInspector;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that every shape of event discovery query is answered from the composite index meant for it:
+ * {@code (club_id, status, start_time)} when a club is given, {@code (status, end_time, start_time)}
+ * otherwise.
+ * <p>
+ * Each search runs through {@link EventSpecifications} against the configured Postgres; the SQL that
+ * Hibernate generated is captured and explained as a generic plan with sequential scans disabled (a
+ * near-empty test table is otherwise always scanned), and the plan must name the expected index. A
+ * failing assertion carries the SQL and the plan. Needs Postgres 16+ for
+ * {@code EXPLAIN (GENERIC_PLAN)} and the same environment as the application; enable with
+ * {@code -Dqueryplan.enabled=true}.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.omkar.uni.verse.support.CapturingStatementInspector")
+@EnabledIfSystemProperty(named = "queryplan.enabled", matches = "true")
+class EventSearchQueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final String CATALOGUE_INDEX = "idx_events_status_end_time_start_time";
+    private static final String CLUB_INDEX = "idx_events_club_id_status_start_time";
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> searches() {
+        return Stream.of(
+                Arguments.of("catalogue", criteria(null, null, null, null, null, null), CATALOGUE_INDEX),
+                Arguments.of("club", criteria(UUID.randomUUID(), null, null, null, null, null), CLUB_INDEX),
+                Arguments.of("category", criteria(null, EventCategory.values()[0], null, null, null, null), CATALOGUE_INDEX),
+                Arguments.of("date window", new EventSearchCriteria(
+                        null, null, NOW, NOW.plusDays(7), null, null, null, null), CATALOGUE_INDEX),
+                Arguments.of("tags", criteria(null, null, List.of("music", "tech"), null, null, null), CATALOGUE_INDEX),
+                Arguments.of("free public", criteria(null, null, null, false, EventVisibility.PUBLIC, null), CATALOGUE_INDEX),
+                Arguments.of("online in club", criteria(UUID.randomUUID(), null, null, null, null, VenueType.ONLINE), CLUB_INDEX)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("searches")
+    void searchIsServedByItsIndex(String name, EventSearchCriteria criteria, String expectedIndex) {
+        CapturingStatementInspector.clear();
+        eventRepository.findAll(
+                EventSpecifications.search(criteria),
+                PageRequest.of(0, 10, Sort.by("startTime", "id"))
+        );
+
+        String sql = CapturingStatementInspector.statements().stream()
+                .filter(statement -> statement.contains("from events") && !statement.contains("count("))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No event query was executed"));
+
+        String plan = explain(sql);
+
+        assertThat(plan)
+                .as("plan of the %s search%n%s%n%s", name, sql, plan)
+                .contains(expectedIndex);
+    }
+
+    private static EventSearchCriteria criteria(UUID clubId, EventCategory category, List<String> tags,
+                                                Boolean paid, EventVisibility visibility, VenueType venueType) {
+        return new EventSearchCriteria(clubId, category, NOW, null, tags, paid, visibility, venueType);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + toPositional(sql))) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                } finally {
+                    statement.execute("RESET enable_seqscan");
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    // JDBC placeholders to the $n parameters a generic plan expects
+    private static String toPositional(String sql) {
+        StringBuilder positional = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '?') {
+                positional.append('$').append(++parameter);
+            } else {
+                positional.append(c);
+            }
+        }
+        return positional.toString();
+    }
+}
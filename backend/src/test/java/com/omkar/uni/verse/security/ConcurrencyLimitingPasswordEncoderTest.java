@@ -0,0 +1,101 @@
+package com.omkar.uni.verse.security;
+
+import com.omkar.uni.verse.controller.GlobalExceptionHandler;
+import com.omkar.uni.verse.exception.ServiceBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Saturates the hashing permits with hashes that block until released and checks that the next
+ * caller is turned away at once with a 503 instead of waiting on its request thread.
+ */
+class ConcurrencyLimitingPasswordEncoderTest {
+
+    private static final int PERMITS = 2;
+
+    private final CountDownLatch hashing = new CountDownLatch(PERMITS);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final PasswordEncoder encoder = new ConcurrencyLimitingPasswordEncoder(new BlockingEncoder(), PERMITS);
+
+    @Test
+    void shedsHashesBeyondThePermitsWithServiceUnavailable() throws Exception {
+        try (ExecutorService requests = Executors.newFixedThreadPool(PERMITS)) {
+            Future<?>[] admitted = new Future<?>[PERMITS];
+            for (int i = 0; i < PERMITS; i++) {
+                admitted[i] = requests.submit(() -> encoder.matches("password", "hash"));
+            }
+            assertThat(hashing.await(5, TimeUnit.SECONDS)).as("admitted hashes started").isTrue();
+
+            long started = System.nanoTime();
+            ServiceBusyException shed = catchThrowableOfType(ServiceBusyException.class,
+                    () -> encoder.matches("password", "hash"));
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            assertThat(shed).as("hash beyond the permits").isNotNull();
+            assertThat(waitedMillis).as("time the shed caller was held").isLessThan(100);
+
+            ResponseEntity<?> response = new GlobalExceptionHandler()
+                    .handleServiceBusy(shed, new MockHttpServletRequest("POST", "/api/v1/auth/login"));
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+
+            release.countDown();
+            for (Future<?> request : admitted) {
+                assertThat(request.get(5, TimeUnit.SECONDS)).isEqualTo(true);
+            }
+        }
+
+        assertThat(encoder.matches("password", "hash")).as("permits returned after the storm").isTrue();
+    }
+
+    @Test
+    void returnsThePermitWhenHashingFails() {
+        PasswordEncoder failing = new ConcurrencyLimitingPasswordEncoder(new FailingEncoder(), 1);
+
+        assertThatThrownBy(() -> failing.encode("password")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> failing.encode("password")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hash";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hashing.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private static class FailingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new IllegalArgumentException("unsupported password");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
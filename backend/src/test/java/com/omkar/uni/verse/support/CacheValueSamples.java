@@ -0,0 +1,147 @@
+package com.omkar.uni.verse.support;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.omkar.uni.verse.domain.dto.clubs.ClubDTO;
+import com.omkar.uni.verse.domain.dto.clubs.ClubSummary;
+import com.omkar.uni.verse.domain.dto.events.EventResponse;
+import com.omkar.uni.verse.domain.dto.events.EventSeatResponse;
+import com.omkar.uni.verse.domain.dto.events.SeatDTO;
+import com.omkar.uni.verse.domain.dto.events.VenueSummary;
+import com.omkar.uni.verse.domain.entities.clubs.ClubCategory;
+import com.omkar.uni.verse.domain.entities.events.EventCategory;
+import com.omkar.uni.verse.domain.entities.events.EventRegistrationMode;
+import com.omkar.uni.verse.domain.entities.events.EventStatus;
+import com.omkar.uni.verse.domain.entities.events.EventVisibility;
+import com.omkar.uni.verse.domain.entities.events.SeatStatus;
+import com.omkar.uni.verse.domain.entities.events.SeatType;
+import com.omkar.uni.verse.domain.entities.events.VenueType;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Realistic values of the DTOs kept in the Redis cache regions, shared by the serializer tests and
+ * benchmarks.
+ */
+public final class CacheValueSamples {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 18, 0);
+
+    private CacheValueSamples() {
+    }
+
+    /**
+     * JSON serializer with {@code @class} metadata, set up like {@code RedisConfig.cacheManager}
+     */
+    public static RedisSerializer<Object> redisJsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    public static EventResponse event(int index) {
+        return EventResponse.builder()
+                .id(UUID.randomUUID())
+                .title("Build night #" + index)
+                .slug("build-night-" + index)
+                .description("Bring a laptop and a project idea; mentors help with hardware and firmware.")
+                .startTime(START.plusDays(index))
+                .endTime(START.plusDays(index).plusHours(3))
+                .venue(venue())
+                .type(VenueType.SEMINAR_HALL)
+                .capacity(120)
+                .registrationMode(EventRegistrationMode.AUTO_APPROVE)
+                .registrationDeadline(START.plusDays(index).minusHours(2))
+                .isPaid(index % 2 == 0)
+                .basePrice(new BigDecimal("99.00"))
+                .visibility(EventVisibility.PUBLIC)
+                .status(EventStatus.PUBLISHED)
+                .bannerUrl("https://cdn.example.com/events/build-night/banner.png")
+                .thumbnailUrl("https://cdn.example.com/events/build-night/thumb.png")
+                .category(EventCategory.WORKSHOP)
+                .tags(new String[]{"robotics", "hardware", "workshop"})
+                .registrationCount(40 + index)
+                .attendanceCount(0)
+                .club(new ClubSummary(UUID.randomUUID(), "Robotics Club", "robotics-club",
+                        "https://cdn.example.com/clubs/robotics/logo.png"))
+                .createdByUser("organizer@example.com")
+                .createdAt(START.minusDays(30))
+                .publishedAt(START.minusDays(29))
+                .isRegistered(index % 3 == 0)
+                .build();
+    }
+
+    public static ClubDTO club(int index) {
+        ClubDTO club = new ClubDTO();
+        club.setName("Robotics Club " + index);
+        club.setSlug("robotics-club-" + index);
+        club.setDescription("Weekly build nights, competitions and workshops on embedded systems.");
+        club.setClubCategory(ClubCategory.TECHNICAL);
+        club.setTags(new String[]{"robotics", "hardware"});
+        club.setLogoUrl("https://cdn.example.com/clubs/robotics/logo.png");
+        club.setBannerUrl("https://cdn.example.com/clubs/robotics/banner.png");
+        club.setMemberCount(120 + index);
+        club.setFollowerCount(480);
+        club.setEventCount(12);
+        return club;
+    }
+
+    public static SeatDTO seat(long id) {
+        return SeatDTO.builder()
+                .id(id)
+                .section("A")
+                .row("C")
+                .number((int) id)
+                .type(id % 10 == 0 ? SeatType.VIP : SeatType.REGULAR)
+                .status(SeatStatus.AVAILABLE)
+                .price(new BigDecimal("200.00"))
+                .build();
+    }
+
+    public static VenueSummary venue() {
+        Map<String, String> seatLayout = new LinkedHashMap<>();
+        seatLayout.put("A", "25x4");
+        seatLayout.put("B", "25x4");
+        return new VenueSummary(7, "Main Auditorium", "Block C, ground floor", seatLayout);
+    }
+
+    /**
+     * A seat map of one published event, assembled by the real seat management service
+     */
+    public static EventSeatResponse eventSeats(int seatCount) {
+        SeatBookingFixture fixture = SeatBookingFixture.create(seatCount, true);
+        return fixture.eventSeatManagementService().getEventSeats(fixture.event().getId());
+    }
+
+    public static PageImpl<EventResponse> eventPage(int size) {
+        return page(size, CacheValueSamples::event);
+    }
+
+    public static <T> PageImpl<T> page(int size, IntFunction<T> element) {
+        List<T> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(element.apply(i));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, size, Sort.by("startTime", "id")), 240);
+    }
+}
@@ -0,0 +1,343 @@
+package com.omkar.uni.verse.support;
+
+import com.omkar.uni.verse.domain.dto.events.bookings.SeatEventRef;
+import com.omkar.uni.verse.domain.entities.events.Event;
+import com.omkar.uni.verse.domain.entities.events.EventSeats;
+import com.omkar.uni.verse.domain.entities.events.Seat;
+import com.omkar.uni.verse.domain.entities.events.SeatStatus;
+import com.omkar.uni.verse.domain.entities.events.SeatType;
+import com.omkar.uni.verse.domain.entities.user.User;
+import com.omkar.uni.verse.repository.EventSeatsRepository;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * In-process stand-in for the event_seats table behind {@link EventSeatsRepository}.
+ * <p>
+ * Rows are stored as immutable snapshots and every read hands out a detached copy, so concurrent
+ * callers never share an entity the way two transactions would not share one. Writes check the
+ * {@code @Version} column like Hibernate does and fail with the same optimistic locking exception;
+ * the native compare-and-set updates are applied atomically. Only the repository methods used by
+ * the seat booking path are implemented.
+ * <p>
+ * {@link #transactionManager()} gives rollback the table's meaning: rows a rolled-back transaction
+ * wrote go back to their previous state unless someone else has written them since. Other callers
+ * can see uncommitted rows in between, which only makes them fail a little more often than they
+ * would behind a Postgres row lock.
+ */
+public class InMemoryEventSeatStore {
+
+    private static final String[] SECTIONS = {"A", "B", "C", "D"};
+    private static final int SEATS_PER_ROW = 25;
+    // Marker for updates that leave locked_by_user_id untouched
+    private static final User KEEP_HOLDER = new User();
+
+    private final Map<Long, EventSeats> rows = new ConcurrentHashMap<>();
+    private final EventSeatsRepository repository;
+    private final ThreadLocal<Journal> journal = new ThreadLocal<>();
+
+    public InMemoryEventSeatStore() {
+        this.repository = (EventSeatsRepository) Proxy.newProxyInstance(
+                EventSeatsRepository.class.getClassLoader(),
+                new Class<?>[]{EventSeatsRepository.class},
+                (proxy, method, args) -> invoke(method, args)
+        );
+    }
+
+    /**
+     * Creates {@code seatCount} AVAILABLE seats for the event with consecutive ids starting at 1
+     */
+    public static InMemoryEventSeatStore withSeats(Event event, int seatCount) {
+        InMemoryEventSeatStore store = new InMemoryEventSeatStore();
+        for (long id = 1; id <= seatCount; id++) {
+            int index = (int) (id - 1);
+            Seat seat = Seat.builder()
+                    .id(id)
+                    .section(SECTIONS[index % SECTIONS.length])
+                    .rowLabel(String.valueOf((char) ('A' + (index / SEATS_PER_ROW) % 26)))
+                    .seatNumber(index % SEATS_PER_ROW + 1)
+                    .type(index % 10 == 0 ? SeatType.VIP : SeatType.REGULAR)
+                    .build();
+
+            store.rows.put(id, EventSeats.builder()
+                    .id(id)
+                    .event(event)
+                    .seat(seat)
+                    .price(seat.getType() == SeatType.VIP ? BigDecimal.valueOf(500) : BigDecimal.valueOf(200))
+                    .build());
+        }
+        return store;
+    }
+
+    public EventSeatsRepository repository() {
+        return repository;
+    }
+
+    public PlatformTransactionManager transactionManager() {
+        return new JournalTransactionManager();
+    }
+
+    public List<EventSeats> snapshot() {
+        return rows.values().stream()
+                .sorted(Comparator.comparing(EventSeats::getId))
+                .map(InMemoryEventSeatStore::copy)
+                .toList();
+    }
+
+    /**
+     * Puts the given seats back to AVAILABLE, bumping their version like the expiry cleanup does
+     */
+    public synchronized void release(Collection<Long> seatIds) {
+        for (Long seatId : seatIds) {
+            EventSeats row = rows.get(seatId);
+            if (row != null) {
+                store(row, SeatStatus.AVAILABLE, null, null);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object invoke(Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(rows.get((Long) args[0])).map(InMemoryEventSeatStore::copy);
+            case "findAllById" -> findAllById((Iterable<?>) args[0]);
+            case "findEventIdById" -> Optional.ofNullable(rows.get((Long) args[0])).map(row -> row.getEvent().getId());
+            case "findEventRefsByIds" -> ((Collection<Long>) args[0]).stream()
+                    .map(rows::get)
+                    .filter(row -> row != null)
+                    .map(row -> (SeatEventRef) new Ref(row.getId(), row.getEvent().getId(), row.getVersion()))
+                    .toList();
+            case "findByEventWithSeats" -> findByEvent(((Event) args[0]).getId());
+            case "countBookedSeatsByEventId" -> countBooked((UUID) args[0]);
+            case "save", "saveAndFlush" -> {
+                saveAll(List.of((EventSeats) args[0]));
+                yield args[0];
+            }
+            case "saveAll", "saveAllAndFlush" -> {
+                List<EventSeats> entities = new ArrayList<>();
+                ((Iterable<?>) args[0]).forEach(entity -> entities.add((EventSeats) entity));
+                saveAll(entities);
+                yield entities;
+            }
+            case "lockIfAvailable" -> update(
+                    (List<Long>) args[0],
+                    row -> row.getStatus() == SeatStatus.AVAILABLE,
+                    SeatStatus.LOCKED, user((UUID) args[1]), (LocalDateTime) args[2]
+            );
+            case "bookIfLockedBy" -> update(
+                    List.of((Long) args[0]),
+                    row -> row.getStatus() == SeatStatus.LOCKED && isHeldBy(row, (UUID) args[1])
+                            && row.getLockExpiresAt().isAfter((LocalDateTime) args[2]),
+                    SeatStatus.BOOKED, KEEP_HOLDER, null
+            );
+            case "releaseIfLockedBy" -> update(
+                    List.of((Long) args[0]),
+                    row -> row.getStatus() == SeatStatus.LOCKED && isHeldBy(row, (UUID) args[1]),
+                    SeatStatus.AVAILABLE, null, null
+            );
+            case "releaseExpiredLocksByIds" -> update(
+                    (List<Long>) args[0],
+                    row -> isExpiredHold(row, (LocalDateTime) args[1]),
+                    SeatStatus.AVAILABLE, null, null
+            );
+            case "releaseExpiredLocks" -> update(
+                    rows.values().stream()
+                            .filter(row -> isExpiredHold(row, (LocalDateTime) args[0]))
+                            .map(EventSeats::getId)
+                            .sorted()
+                            .limit((Integer) args[1])
+                            .toList(),
+                    row -> isExpiredHold(row, (LocalDateTime) args[0]),
+                    SeatStatus.AVAILABLE, null, null
+            );
+            case "toString" -> "InMemoryEventSeatStore(" + rows.size() + " seats)";
+            case "hashCode" -> System.identityHashCode(this);
+            case "equals" -> args[0] == repository;
+            default -> throw new UnsupportedOperationException(
+                    "EventSeatsRepository." + method.getName() + " is not supported by the in-memory store");
+        };
+    }
+
+    private List<EventSeats> findAllById(Iterable<?> ids) {
+        List<EventSeats> found = new ArrayList<>();
+        for (Object id : ids) {
+            EventSeats row = rows.get((Long) id);
+            if (row != null) {
+                found.add(copy(row));
+            }
+        }
+        return found;
+    }
+
+    private List<EventSeats> findByEvent(UUID eventId) {
+        return rows.values().stream()
+                .filter(row -> row.getEvent().getId().equals(eventId))
+                .sorted(Comparator.comparing(EventSeats::getId))
+                .map(InMemoryEventSeatStore::copy)
+                .toList();
+    }
+
+    private Long countBooked(UUID eventId) {
+        return rows.values().stream()
+                .filter(row -> row.getEvent().getId().equals(eventId) && row.getStatus() == SeatStatus.BOOKED)
+                .count();
+    }
+
+    // All rows are checked before any is written, like a transaction that rolls back on the first failure
+    private synchronized void saveAll(List<EventSeats> entities) {
+        for (EventSeats entity : entities) {
+            EventSeats row = rows.get(entity.getId());
+            if (row == null || !row.getVersion().equals(entity.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(EventSeats.class, entity.getId());
+            }
+        }
+
+        for (EventSeats entity : entities) {
+            EventSeats previous = rows.get(entity.getId());
+            entity.setVersion(entity.getVersion() + 1);
+            entity.setUpdatedAt(LocalDateTime.now());
+            write(previous, copy(entity));
+        }
+    }
+
+    private synchronized List<SeatEventRef> update(List<Long> seatIds,
+                                                   Predicate<EventSeats> condition,
+                                                   SeatStatus status,
+                                                   User lockedBy,
+                                                   LocalDateTime lockExpiresAt) {
+        List<SeatEventRef> updated = new ArrayList<>();
+        for (Long seatId : seatIds) {
+            EventSeats row = rows.get(seatId);
+            if (row != null && condition.test(row)) {
+                EventSeats next = store(row, status, lockedBy == KEEP_HOLDER ? row.getLockedBy() : lockedBy, lockExpiresAt);
+                updated.add(new Ref(seatId, row.getEvent().getId(), next.getVersion()));
+            }
+        }
+        return updated;
+    }
+
+    private EventSeats store(EventSeats row, SeatStatus status, User lockedBy, LocalDateTime lockExpiresAt) {
+        EventSeats next = copy(row);
+        next.setStatus(status);
+        next.setLockedBy(lockedBy);
+        next.setLockExpiresAt(lockExpiresAt);
+        next.setVersion(row.getVersion() + 1);
+        next.setUpdatedAt(LocalDateTime.now());
+        write(row, next);
+        return next;
+    }
+
+    private void write(EventSeats previous, EventSeats next) {
+        rows.put(next.getId(), next);
+        Journal current = journal.get();
+        if (current != null) {
+            current.before().putIfAbsent(next.getId(), previous);
+            current.written().put(next.getId(), next.getVersion());
+        }
+    }
+
+    private synchronized void undo(Journal rolledBack) {
+        rolledBack.before().forEach((seatId, previous) -> {
+            if (rows.get(seatId).getVersion().equals(rolledBack.written().get(seatId))) {
+                rows.put(seatId, previous);
+            }
+        });
+    }
+
+    private static boolean isHeldBy(EventSeats row, UUID userId) {
+        return row.getLockedBy() != null && row.getLockedBy().getId().equals(userId);
+    }
+
+    private static boolean isExpiredHold(EventSeats row, LocalDateTime now) {
+        return row.getStatus() == SeatStatus.LOCKED && row.getLockExpiresAt() != null && !row.getLockExpiresAt().isAfter(now);
+    }
+
+    private static User user(UUID userId) {
+        return User.builder().id(userId).build();
+    }
+
+    private static EventSeats copy(EventSeats row) {
+        return EventSeats.builder()
+                .id(row.getId())
+                .event(row.getEvent())
+                .seat(row.getSeat())
+                .status(row.getStatus())
+                .lockedBy(row.getLockedBy())
+                .lockExpiresAt(row.getLockExpiresAt())
+                .price(row.getPrice())
+                .version(row.getVersion())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    // Row states before the transaction first wrote them, and the versions it wrote last
+    private record Journal(Map<Long, EventSeats> before, Map<Long, Integer> written) {
+    }
+
+    private class JournalTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new AtomicReference<>(journal.get());
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((AtomicReference<?>) transaction).get() != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            journal.set(new Journal(new HashMap<>(), new HashMap<>()));
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            undo(journal.get());
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            journal.remove();
+        }
+    }
+
+    private record Ref(Long seatId, UUID eventId, Integer version) implements SeatEventRef {
+        @Override
+        public Long getSeatId() {
+            return seatId;
+        }
+
+        @Override
+        public UUID getEventId() {
+            return eventId;
+        }
+
+        @Override
+        public Integer getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.omkar.uni.verse.support;
+
+import com.omkar.uni.verse.services.RedisLockService;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for {@link com.omkar.uni.verse.services.impl.RedisLockServiceImpl}.
+ * <p>
+ * Every operation runs under one monitor, the same way Redis executes commands and Lua scripts one at
+ * a time, so the multi-key operations keep their all-or-nothing semantics.
+ */
+public class InMemoryRedisLockService implements RedisLockService {
+
+    private final Map<String, Lock> locks = new HashMap<>();
+
+    @Override
+    public synchronized boolean tryLock(String resource, String lockValue, long ttl, TimeUnit unit) {
+        if (isHeld(resource)) {
+            return false;
+        }
+        locks.put(resource, new Lock(lockValue, deadline(ttl, unit)));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean unlock(String resource, String lockValue) {
+        Lock lock = locks.get(resource);
+        if (lock == null || !lock.value().equals(lockValue)) {
+            return false;
+        }
+        locks.remove(resource);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean tryLockAll(List<String> resources, String lockValue, long ttl, TimeUnit unit) {
+        for (String resource : resources) {
+            if (isHeld(resource)) {
+                return false;
+            }
+        }
+
+        long deadline = deadline(ttl, unit);
+        for (String resource : resources) {
+            locks.put(resource, new Lock(lockValue, deadline));
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized int unlockAll(List<String> resources, String lockValue) {
+        int released = 0;
+        for (String resource : resources) {
+            if (unlock(resource, lockValue)) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    @Override
+    public synchronized boolean extendLock(String resource, String lockValue, long additionalTtl, TimeUnit unit) {
+        Lock lock = locks.get(resource);
+        if (!isHeld(resource) || !lock.value().equals(lockValue)) {
+            return false;
+        }
+        locks.put(resource, new Lock(lockValue, deadline(additionalTtl, unit)));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean isLocked(String resource) {
+        return isHeld(resource);
+    }
+
+    @Override
+    public synchronized long getLockTtl(String resource) {
+        if (!isHeld(resource)) {
+            return -2;
+        }
+        return TimeUnit.NANOSECONDS.toSeconds(locks.get(resource).deadline() - System.nanoTime());
+    }
+
+    private boolean isHeld(String resource) {
+        Lock lock = locks.get(resource);
+        if (lock == null) {
+            return false;
+        }
+        if (lock.deadline() - System.nanoTime() <= 0) {
+            locks.remove(resource);
+            return false;
+        }
+        return true;
+    }
+
+    private static long deadline(long ttl, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(ttl);
+    }
+
+    private record Lock(String value, long deadline) {
+    }
+}
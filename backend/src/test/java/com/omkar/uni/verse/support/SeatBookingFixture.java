@@ -0,0 +1,164 @@
+package com.omkar.uni.verse.support;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.omkar.uni.verse.domain.entities.events.Event;
+import com.omkar.uni.verse.domain.entities.events.EventStatus;
+import com.omkar.uni.verse.domain.entities.user.User;
+import com.omkar.uni.verse.mappers.SeatMapperImpl;
+import com.omkar.uni.verse.mappers.VenueMapper;
+import com.omkar.uni.verse.repository.EventRepository;
+import com.omkar.uni.verse.repository.EventVenueRepository;
+import com.omkar.uni.verse.repository.UserRepository;
+import com.omkar.uni.verse.security.CurrentUserProvider;
+import com.omkar.uni.verse.services.EventSeatManagementService;
+import com.omkar.uni.verse.services.SeatChangeLogService;
+import com.omkar.uni.verse.services.SeatHoldExpiryService;
+import com.omkar.uni.verse.services.SeatStateEngine;
+import com.omkar.uni.verse.services.impl.EventSeatManagementServiceImpl;
+import com.omkar.uni.verse.services.impl.SeatBookingServiceImpl;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Wires {@link SeatBookingServiceImpl} and {@link EventSeatManagementServiceImpl} for one published
+ * event without a Spring context, Redis or Postgres.
+ * <p>
+ * Redis locks and the event_seats table are replaced by {@link InMemoryRedisLockService} and
+ * {@link InMemoryEventSeatStore}; the seat change log, hold expiry index and cache eviction are
+ * stub-only mocks (they do not record invocations, so long runs do not accumulate memory).
+ * The booking service runs behind a transaction proxy backed by the store's journal, so a rolled-back
+ * booking undoes its seat updates; after-commit actions of the stubbed services are not simulated.
+ */
+public final class SeatBookingFixture {
+
+    private final Event event;
+    private final InMemoryEventSeatStore store;
+    private final InMemoryRedisLockService redisLockService = new InMemoryRedisLockService();
+    private final SeatStateEngine seatStateEngine = new SeatStateEngine();
+    private final SeatBookingServiceImpl seatBookingService;
+    private final EventSeatManagementServiceImpl eventSeatManagementService;
+
+    private SeatBookingFixture(int seatCount, boolean stateEngineEnabled, boolean conditionalUpdateLocking) {
+        this.event = Event.builder()
+                .id(UUID.randomUUID())
+                .title("Ticket drop")
+                .slug("ticket-drop")
+                .capacity(seatCount)
+                .status(EventStatus.PUBLISHED)
+                .startTime(LocalDateTime.now().plusDays(7))
+                .endTime(LocalDateTime.now().plusDays(7).plusHours(3))
+                .build();
+        this.store = InMemoryEventSeatStore.withSeats(event, seatCount);
+
+        ReflectionTestUtils.setField(seatStateEngine, "enabled", stateEngineEnabled);
+        ReflectionTestUtils.setField(seatStateEngine, "maxAgeSeconds", 60L);
+        ReflectionTestUtils.setField(seatStateEngine, "remoteHoldSeconds", 300L);
+
+        EventRepository eventRepository = stub(EventRepository.class);
+        when(eventRepository.findByIdAndStatus(eq(event.getId()), any())).thenReturn(Optional.of(event));
+
+        this.eventSeatManagementService = new EventSeatManagementServiceImpl(
+                stub(VenueMapper.class),
+                stub(EventVenueRepository.class),
+                eventRepository,
+                store.repository(),
+                new SeatMapperImpl(),
+                seatStateEngine,
+                stub(SeatChangeLogService.class)
+        );
+
+        SeatBookingServiceImpl target = new SeatBookingServiceImpl(
+                redisLockService,
+                store.repository(),
+                seatStateEngine,
+                stub(SeatChangeLogService.class),
+                stub(EventSeatManagementService.class),
+                stub(SeatHoldExpiryService.class),
+                new CurrentUserProvider(stub(UserRepository.class))
+        );
+        ReflectionTestUtils.setField(target, "conditionalUpdateLocking", conditionalUpdateLocking);
+        this.seatBookingService = transactional(target);
+
+        // Per-operation INFO/WARN logging would dominate the measurements
+        ((Logger) LoggerFactory.getLogger("com.omkar.uni.verse")).setLevel(Level.ERROR);
+    }
+
+    public static SeatBookingFixture create(int seatCount, boolean stateEngineEnabled) {
+        return new SeatBookingFixture(seatCount, stateEngineEnabled, false);
+    }
+
+    public static SeatBookingFixture create(int seatCount, boolean stateEngineEnabled, boolean conditionalUpdateLocking) {
+        return new SeatBookingFixture(seatCount, stateEngineEnabled, conditionalUpdateLocking);
+    }
+
+    public static User newUser(int index) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .email("user" + index + "@uni.verse")
+                .build();
+    }
+
+    /**
+     * Makes {@code user} the authenticated principal of the calling thread
+     */
+    public static void authenticate(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
+        );
+    }
+
+    public Event event() {
+        return event;
+    }
+
+    public InMemoryEventSeatStore store() {
+        return store;
+    }
+
+    public InMemoryRedisLockService redisLockService() {
+        return redisLockService;
+    }
+
+    public SeatStateEngine seatStateEngine() {
+        return seatStateEngine;
+    }
+
+    public SeatBookingServiceImpl seatBookingService() {
+        return seatBookingService;
+    }
+
+    public EventSeatManagementServiceImpl eventSeatManagementService() {
+        return eventSeatManagementService;
+    }
+
+    private SeatBookingServiceImpl transactional(SeatBookingServiceImpl target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(
+                (TransactionManager) store.transactionManager(),
+                new AnnotationTransactionAttributeSource()
+        ));
+        return (SeatBookingServiceImpl) proxyFactory.getProxy();
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}